@@ -0,0 +1,77 @@
+package com.dragonminez.mod.benchmark;
+
+import com.dragonminez.mod.server.config.dimensions.DimensionConfig;
+import com.dragonminez.mod.server.config.dimensions.DimensionsConfigManager;
+import com.dragonminez.mod.server.config.food.FoodConfig;
+import com.dragonminez.mod.server.config.food.FoodConfigManager;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures lookups on {@link FoodConfigManager} and {@link DimensionsConfigManager}.
+ * <p>
+ * Food configs are looked up by key. {@link FoodConfigManager#regen} is not covered, since resolving
+ * items needs a bootstrapped item registry, which is not available outside the game.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigLookupBenchmark {
+
+  private static final int CONFIGS = 64;
+
+  private ResourceKey<Level> configuredDimension;
+  private ResourceKey<Level> unconfiguredDimension;
+
+  @Setup
+  public void setup() {
+    for (int i = 0; i < CONFIGS; i++) {
+      FoodConfigManager.INSTANCE.replace("food_" + i, new FoodConfig.Builder()
+          .setItemID("dragonminez:food_" + i).setHealthRegen(0.04).setKiRegen(0.02)
+          .setStaminaRegen(0.02).build());
+      DimensionsConfigManager.INSTANCE.replace("dragonminez:dimension_" + i,
+          DimensionConfig.builder().dimensionID("dragonminez:dimension_" + i).build());
+    }
+    this.configuredDimension = ResourceKey.create(Registries.DIMENSION,
+        new ResourceLocation("dragonminez", "dimension_7"));
+    this.unconfiguredDimension = ResourceKey.create(Registries.DIMENSION,
+        new ResourceLocation("minecraft", "overworld"));
+  }
+
+  @Benchmark
+  public Set<FoodConfig> foodByKey() {
+    return FoodConfigManager.INSTANCE.get("food_7");
+  }
+
+  @Benchmark
+  public DimensionConfig dimensionByLocation() {
+    return DimensionsConfigManager.INSTANCE.get(this.configuredDimension.location());
+  }
+
+  @Benchmark
+  public DimensionConfig dimensionByKey() {
+    return DimensionsConfigManager.INSTANCE.get(this.configuredDimension);
+  }
+
+  @Benchmark
+  public DimensionConfig dimensionByKeyWithoutConfig() {
+    return DimensionsConfigManager.INSTANCE.getOrDefault(this.unconfiguredDimension);
+  }
+}
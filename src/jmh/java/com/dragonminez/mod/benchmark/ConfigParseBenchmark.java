@@ -0,0 +1,67 @@
+package com.dragonminez.mod.benchmark;
+
+import com.dragonminez.mod.common.config.GeneralConfig;
+import com.dragonminez.mod.core.common.config.util.JacksonUtil;
+import com.dragonminez.mod.server.config.dimensions.DimensionConfig;
+import com.dragonminez.mod.server.config.food.FoodConfig;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link JacksonUtil#loadJsonFromStream} on the JSON5 configs bundled with the mod.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigParseBenchmark {
+
+  private static final String CONFIG_ROOT = "assets/dragonminez/config/runtime/";
+
+  @Param({"foods/dino_meat_raw", "dimensions/namek", "general"})
+  public String config;
+
+  private byte[] content;
+  private Class<?> type;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    try (InputStream input = ConfigParseBenchmark.class.getClassLoader()
+        .getResourceAsStream(CONFIG_ROOT + this.config + JacksonUtil.FILE_EXTENSION)) {
+      if (input == null) {
+        throw new IllegalStateException("Missing bundled config " + this.config);
+      }
+      this.content = input.readAllBytes();
+    }
+    if (this.config.startsWith("foods/")) {
+      this.type = FoodConfig.class;
+    } else if (this.config.startsWith("dimensions/")) {
+      this.type = DimensionConfig.class;
+    } else {
+      this.type = GeneralConfig.class;
+    }
+  }
+
+  @Benchmark
+  public void loadJsonFromStream(Blackhole blackhole) {
+    JacksonUtil.loadJsonFromStream(this.type, new ByteArrayInputStream(this.content),
+        blackhole::consume);
+  }
+}
@@ -0,0 +1,69 @@
+package com.dragonminez.mod.benchmark;
+
+import com.dragonminez.mod.common.Reference;
+import com.dragonminez.mod.common.player.stat.StatData;
+import com.dragonminez.mod.common.player.stat.model.StatType;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.nbt.CompoundTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link StatData} NBT persistence, both with the compact layout and when migrating the
+ * legacy key-per-field layout.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatDataBenchmark {
+
+  private StatData data;
+  private CompoundTag compactTag;
+  private CompoundTag legacyTag;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    this.data = new StatData("dragonminez:saiyan", "dragonminez:base", 120, 95, 300, 80, 60, 45,
+        -20, true, false);
+    this.compactTag = this.data.serializeNBT();
+    this.legacyTag = new CompoundTag();
+    for (StatType type : Reference.Stat.STATS) {
+      switch (type.kind()) {
+        case STRING -> this.legacyTag.putString(type.id(), this.data.getString(type));
+        case INT -> this.legacyTag.putInt(type.id(), this.data.getInt(type));
+        case FLAG -> this.legacyTag.putBoolean(type.id(), this.data.getFlag(type));
+      }
+    }
+  }
+
+  @Benchmark
+  public CompoundTag serializeNBT() {
+    return this.data.serializeNBT();
+  }
+
+  @Benchmark
+  public StatData deserializeNBT() {
+    final StatData result = new StatData();
+    result.deserializeNBT(this.compactTag);
+    return result;
+  }
+
+  @Benchmark
+  public StatData deserializeLegacyNBT() {
+    final StatData result = new StatData();
+    result.deserializeNBT(this.legacyTag);
+    return result;
+  }
+}
@@ -0,0 +1,108 @@
+package com.dragonminez.mod.benchmark;
+
+import com.dragonminez.mod.common.Reference;
+import com.dragonminez.mod.common.network.player.stat.s2c.PacketS2CSyncStatDelta;
+import com.dragonminez.mod.common.player.stat.StatData;
+import com.dragonminez.mod.common.player.stat.model.StatType;
+import io.netty.buffer.Unpooled;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import net.minecraft.network.FriendlyByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the encoding and decoding of the stat sync packets over a {@link FriendlyByteBuf}.
+ * <p>
+ * String stats are resolved through a fixed index, standing in for the session string table.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatPacketBenchmark {
+
+  private static final ToIntFunction<String> STRING_INDEXES = value -> 1;
+
+  private final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer(256));
+
+  private PacketS2CSyncStatDelta fullPacket;
+  private PacketS2CSyncStatDelta publicPacket;
+  private PacketS2CSyncStatDelta deltaPacket;
+  private FriendlyByteBuf fullBytes;
+  private FriendlyByteBuf publicBytes;
+  private FriendlyByteBuf deltaBytes;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final StatData data = new StatData(Reference.MOD_ID + ":saiyan", Reference.MOD_ID + ":base",
+        120, 95, 300, 80, 60, 45, -20, true, false);
+    this.fullPacket = new PacketS2CSyncStatDelta(data, 42, Reference.Stat.ALL_MASK,
+        STRING_INDEXES);
+    this.publicPacket = new PacketS2CSyncStatDelta(data, 42, Reference.Stat.PUBLIC_MASK,
+        STRING_INDEXES);
+    this.deltaPacket = new PacketS2CSyncStatDelta(data, 42,
+        StatType.STRENGTH.bit() | StatType.ENERGY.bit() | StatType.COMBAT_MODE.bit(),
+        STRING_INDEXES);
+    this.fullBytes = encoded(this.fullPacket::encode);
+    this.publicBytes = encoded(this.publicPacket::encode);
+    this.deltaBytes = encoded(this.deltaPacket::encode);
+  }
+
+  @Benchmark
+  public FriendlyByteBuf encodeFull() {
+    this.buffer.clear();
+    this.fullPacket.encode(this.buffer);
+    return this.buffer;
+  }
+
+  @Benchmark
+  public FriendlyByteBuf encodePublic() {
+    this.buffer.clear();
+    this.publicPacket.encode(this.buffer);
+    return this.buffer;
+  }
+
+  @Benchmark
+  public FriendlyByteBuf encodeDelta() {
+    this.buffer.clear();
+    this.deltaPacket.encode(this.buffer);
+    return this.buffer;
+  }
+
+  @Benchmark
+  public PacketS2CSyncStatDelta decodeFull() {
+    this.fullBytes.readerIndex(0);
+    return new PacketS2CSyncStatDelta(this.fullBytes);
+  }
+
+  @Benchmark
+  public PacketS2CSyncStatDelta decodePublic() {
+    this.publicBytes.readerIndex(0);
+    return new PacketS2CSyncStatDelta(this.publicBytes);
+  }
+
+  @Benchmark
+  public PacketS2CSyncStatDelta decodeDelta() {
+    this.deltaBytes.readerIndex(0);
+    return new PacketS2CSyncStatDelta(this.deltaBytes);
+  }
+
+  private static FriendlyByteBuf encoded(Consumer<FriendlyByteBuf> encoder) {
+    final FriendlyByteBuf bytes = new FriendlyByteBuf(Unpooled.buffer(256));
+    encoder.accept(bytes);
+    return bytes;
+  }
+}
@@ -4,6 +4,7 @@ import com.dragonminez.mod.client.registry.KeybindRegistry;
 import com.dragonminez.mod.common.Reference;
 import com.dragonminez.mod.common.network.NetworkManager;
 import com.dragonminez.mod.common.registry.ConfigRegistry;
+import com.dragonminez.mod.common.util.LogUtil;
 import com.dragonminez.mod.core.common.config.ConfigManager;
 import net.minecraftforge.fml.common.Mod;
 import software.bernie.geckolib.GeckoLib;
@@ -28,6 +29,7 @@ import software.bernie.geckolib.GeckoLib;
 public class DragonMineZ {
 
   public DragonMineZ() {
+    LogUtil.init();
     ConfigRegistry.init();
     KeybindRegistry.init();
     ConfigManager.INSTANCE.init();
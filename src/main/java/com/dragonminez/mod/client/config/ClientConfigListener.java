@@ -0,0 +1,17 @@
+package com.dragonminez.mod.client.config;
+
+import com.dragonminez.mod.common.Reference;
+import com.dragonminez.mod.core.common.config.RuntimeConfigWriter;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.event.GameShuttingDownEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+@Mod.EventBusSubscriber(modid = Reference.MOD_ID, value = Dist.CLIENT, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class ClientConfigListener {
+
+  @SubscribeEvent
+  public static void onGameShuttingDown(GameShuttingDownEvent event) {
+    RuntimeConfigWriter.INSTANCE.flush();
+  }
+}
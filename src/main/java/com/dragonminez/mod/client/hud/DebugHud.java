@@ -42,30 +42,14 @@ public class DebugHud {
       int labelX = 10;
       int tabSpacing = 6;
 
-      final String[] values = {
-          statData.getRace(),
-          statData.getForm(),
-          String.valueOf(statData.getStrength()),
-          String.valueOf(statData.getStrikePower()),
-          String.valueOf(statData.getEnergy()),
-          String.valueOf(statData.getVitality()),
-          String.valueOf(statData.getResistance()),
-          String.valueOf(statData.getKiPower()),
-          String.valueOf(statData.getAlignment()),
-          String.valueOf(statData.isInCombatMode()),
-          String.valueOf(statData.isBlocking())
-      };
-
-      int i = 0;
       for (StatType stat : Reference.Stat.STATS) {
         final String label = stat.legibleId() + ":";
-        final String value = values[i];
+        final String value = statData.getAsString(stat);
 
         graphics.drawString(font, label, labelX, y, 0xaaaaaa, true);
         int labelWidth = font.width(label);
         graphics.drawString(font, value, labelX + labelWidth + tabSpacing, y, 0xff8800, true);
         y += 10;
-        i++;
       }
 
       pose.popPose();
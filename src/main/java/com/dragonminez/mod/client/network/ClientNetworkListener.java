@@ -0,0 +1,16 @@
+package com.dragonminez.mod.client.network;
+
+import com.dragonminez.mod.common.Reference;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+@Mod.EventBusSubscriber(modid = Reference.MOD_ID, value = Dist.CLIENT, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class ClientNetworkListener {
+
+  @SubscribeEvent
+  public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+    ClientStringTable.INSTANCE.reset();
+  }
+}
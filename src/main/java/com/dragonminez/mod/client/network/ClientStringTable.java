@@ -0,0 +1,65 @@
+package com.dragonminez.mod.client.network;
+
+import com.dragonminez.mod.common.Reference;
+import com.dragonminez.mod.common.util.LogUtil;
+import java.util.Arrays;
+
+/**
+ * Client copy of the server session string table, used to resolve the string indexes carried by
+ * packets.
+ * <p>
+ * Table updates are applied on the network thread as soon as they arrive, so they are always in
+ * place before the packets using them are handled on the main thread. The table is copied on every
+ * update, which only happens when the server sees a new string.
+ */
+public final class ClientStringTable {
+
+  /**
+   * Singleton instance of ClientStringTable.
+   */
+  public static final ClientStringTable INSTANCE = new ClientStringTable();
+
+  private volatile String[] entries = {Reference.EMPTY};
+
+  /**
+   * Private constructor to enforce singleton pattern.
+   */
+  private ClientStringTable() {
+  }
+
+  /**
+   * Applies a table update. An update starting at index {@code 0} replaces the whole table.
+   *
+   * @param start   the index of the first entry.
+   * @param entries the entries.
+   */
+  public synchronized void apply(int start, String[] entries) {
+    final String[] current = start == 0 ? new String[0] : this.entries;
+    final String[] updated = Arrays.copyOf(current, Math.max(current.length,
+        start + entries.length));
+    System.arraycopy(entries, 0, updated, start, entries.length);
+    this.entries = updated;
+  }
+
+  /**
+   * Resolves a string index.
+   *
+   * @param index the index.
+   * @return the string, or {@link Reference#EMPTY} if the index is unknown.
+   */
+  public String resolve(int index) {
+    final String[] current = this.entries;
+    if (index < 0 || index >= current.length || current[index] == null) {
+      LogUtil.warn("Received unknown string table index {}.", index);
+      return Reference.EMPTY;
+    }
+    return current[index];
+  }
+
+  /**
+   * Clears the table, used when leaving a server.
+   */
+  public synchronized void reset() {
+    this.entries = new String[]{Reference.EMPTY};
+  }
+}
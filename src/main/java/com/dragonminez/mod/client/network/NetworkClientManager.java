@@ -1,30 +1,75 @@
 package com.dragonminez.mod.client.network;
 
-import com.dragonminez.mod.client.network.player.stat.handler.PacketHandlerS2CSyncStat;
+import com.dragonminez.mod.client.network.player.stat.handler.PacketHandlerS2CSyncPublicStatSnapshot;
+import com.dragonminez.mod.client.network.player.stat.handler.PacketHandlerS2CSyncStatDelta;
+import com.dragonminez.mod.client.network.table.handler.PacketHandlerS2CSyncStringTable;
 import com.dragonminez.mod.common.network.NetworkManager;
-import com.dragonminez.mod.common.network.player.stat.s2c.PacketS2CSyncPublicStat;
-import com.dragonminez.mod.common.network.player.stat.s2c.PacketS2CSyncStat;
+import com.dragonminez.mod.common.network.metrics.NetworkMetrics;
+import com.dragonminez.mod.common.network.player.stat.s2c.PacketS2CSyncPublicStatSnapshot;
+import com.dragonminez.mod.common.network.player.stat.s2c.PacketS2CSyncStatDelta;
+import com.dragonminez.mod.common.network.table.s2c.PacketS2CSyncStringTable;
+import com.dragonminez.mod.core.common.network.IPacket;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.network.NetworkDirection;
+import net.minecraftforge.network.NetworkEvent;
 import net.minecraftforge.network.simple.SimpleChannel;
 
 public class NetworkClientManager {
 
   public static final NetworkClientManager INSTANCE = new NetworkClientManager();
 
+  /**
+   * Registers every server to client message. Discriminators are assigned in registration order,
+   * so {@link com.dragonminez.mod.common.Reference#PROTOCOL_VERSION} must be bumped whenever a
+   * message is added, removed or moved.
+   *
+   * @param channel The channel to register the messages in.
+   */
   public void init(SimpleChannel channel) {
-    channel.messageBuilder(PacketS2CSyncPublicStat.class, NetworkManager.INSTANCE.assignId(),
-            NetworkDirection.PLAY_TO_CLIENT)
-        .decoder(PacketS2CSyncPublicStat::new)
-        .encoder(PacketS2CSyncPublicStat::encode)
-        .consumerMainThread((packetS2CSyncPublicStat, contextSupplier)
-            -> new PacketHandlerS2CSyncStat<>().handle(packetS2CSyncPublicStat, contextSupplier))
-        .add();
-    channel.messageBuilder(PacketS2CSyncStat.class, NetworkManager.INSTANCE.assignId(),
-            NetworkDirection.PLAY_TO_CLIENT)
-        .decoder(PacketS2CSyncStat::new)
-        .encoder(PacketS2CSyncStat::encode)
-        .consumerMainThread((packetS2CSyncStat, contextSupplier)
-            -> new PacketHandlerS2CSyncStat<>().handle(packetS2CSyncStat, contextSupplier))
-        .add();
+    this.register(channel, PacketS2CSyncStatDelta.class, PacketS2CSyncStatDelta::new,
+        (packetS2CSyncStatDelta, contextSupplier)
+            -> new PacketHandlerS2CSyncStatDelta().handle(packetS2CSyncStatDelta, contextSupplier),
+        false);
+    this.register(channel, PacketS2CSyncPublicStatSnapshot.class,
+        PacketS2CSyncPublicStatSnapshot::new, (packetS2CSyncPublicStatSnapshot, contextSupplier)
+            -> new PacketHandlerS2CSyncPublicStatSnapshot().handle(
+            packetS2CSyncPublicStatSnapshot, contextSupplier), false);
+    this.register(channel, PacketS2CSyncStringTable.class, PacketS2CSyncStringTable::new,
+        (packetS2CSyncStringTable, contextSupplier)
+            -> new PacketHandlerS2CSyncStringTable().handle(packetS2CSyncStringTable,
+            contextSupplier), true);
+  }
+
+  /**
+   * Registers a server to client message, with its encoder, decoder and handler measured by
+   * {@link NetworkMetrics}.
+   *
+   * @param channel       The channel to register the message in.
+   * @param type          The message type.
+   * @param decoder       The message decoder.
+   * @param handler       The message handler.
+   * @param networkThread Whether the handler runs on the network thread instead of the main thread.
+   *                      Main thread handlers are already queued by the channel, and must not call
+   *                      {@code enqueueWork} themselves, or their time would not be measured.
+   * @param <MSG>         The message type.
+   */
+  private <MSG extends IPacket> void register(SimpleChannel channel, Class<MSG> type,
+      Function<FriendlyByteBuf, MSG> decoder,
+      BiConsumer<MSG, Supplier<NetworkEvent.Context>> handler, boolean networkThread) {
+    final SimpleChannel.MessageBuilder<MSG> builder = channel.messageBuilder(type,
+            NetworkManager.INSTANCE.assignId(), NetworkDirection.PLAY_TO_CLIENT)
+        .decoder(NetworkMetrics.INSTANCE.decoder(type, decoder))
+        .encoder(NetworkMetrics.INSTANCE.encoder(type, IPacket::encode));
+    final BiConsumer<MSG, Supplier<NetworkEvent.Context>> measured =
+        NetworkMetrics.INSTANCE.handler(type, handler);
+    if (networkThread) {
+      builder.consumerNetworkThread(measured);
+    } else {
+      builder.consumerMainThread(measured);
+    }
+    builder.add();
   }
 }
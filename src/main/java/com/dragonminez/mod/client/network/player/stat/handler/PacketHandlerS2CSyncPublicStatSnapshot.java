@@ -0,0 +1,37 @@
+package com.dragonminez.mod.client.network.player.stat.handler;
+
+import com.dragonminez.mod.client.network.ClientStringTable;
+import com.dragonminez.mod.common.network.player.stat.s2c.PacketS2CSyncPublicStatSnapshot;
+import com.dragonminez.mod.common.player.stat.StatData;
+import com.dragonminez.mod.common.player.stat.StatManager;
+import java.util.function.Supplier;
+import net.minecraft.client.Minecraft;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.network.NetworkEvent;
+
+/**
+ * Handles {@link PacketS2CSyncPublicStatSnapshot}. Registered as a main thread consumer, so the
+ * channel already runs it on the client thread.
+ */
+public class PacketHandlerS2CSyncPublicStatSnapshot {
+
+  public void handle(PacketS2CSyncPublicStatSnapshot packet, Supplier<NetworkEvent.Context> ctx) {
+    final Level level = Minecraft.getInstance().level;
+    if (level == null) {
+      return;
+    }
+
+    for (int i = 0; i < packet.size(); i++) {
+      final Entity entity = level.getEntity(packet.getPlayerId(i));
+      if (!(entity instanceof Player player)) {
+        continue;
+      }
+      final StatData data = StatManager.INSTANCE.getStatData(player);
+      if (data != null) {
+        packet.applyTo(i, data, ClientStringTable.INSTANCE::resolve);
+      }
+    }
+  }
+}
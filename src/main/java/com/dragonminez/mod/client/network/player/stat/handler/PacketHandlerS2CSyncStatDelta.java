@@ -0,0 +1,32 @@
+package com.dragonminez.mod.client.network.player.stat.handler;
+
+import com.dragonminez.mod.client.network.ClientStringTable;
+import com.dragonminez.mod.common.network.player.stat.s2c.PacketS2CSyncStatDelta;
+import com.dragonminez.mod.common.player.stat.StatManager;
+import java.util.function.Supplier;
+import net.minecraft.client.Minecraft;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.network.NetworkEvent;
+
+/**
+ * Handles {@link PacketS2CSyncStatDelta}. Registered as a main thread consumer, so the channel
+ * already runs it on the client thread.
+ */
+public class PacketHandlerS2CSyncStatDelta {
+
+  public void handle(PacketS2CSyncStatDelta packet, Supplier<NetworkEvent.Context> ctx) {
+    final Level level = Minecraft.getInstance().level;
+    if (level == null) {
+      return;
+    }
+
+    final Entity entity = level.getEntity(packet.getPlayerId());
+    if (!(entity instanceof Player player)) {
+      return;
+    }
+    StatManager.INSTANCE.retrieveStatData(player,
+        data -> packet.applyTo(data, ClientStringTable.INSTANCE::resolve));
+  }
+}
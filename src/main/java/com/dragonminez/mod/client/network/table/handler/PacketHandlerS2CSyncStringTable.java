@@ -0,0 +1,16 @@
+package com.dragonminez.mod.client.network.table.handler;
+
+import com.dragonminez.mod.client.network.ClientStringTable;
+import com.dragonminez.mod.common.network.table.s2c.PacketS2CSyncStringTable;
+import java.util.function.Supplier;
+import net.minecraftforge.network.NetworkEvent;
+
+public class PacketHandlerS2CSyncStringTable {
+
+  public void handle(PacketS2CSyncStringTable packet, Supplier<NetworkEvent.Context> ctx) {
+    // Applied on the network thread, so the table is updated before any later packet using it is
+    // handled on the main thread.
+    ClientStringTable.INSTANCE.apply(packet.getStart(), packet.getEntries());
+    ctx.get().setPacketHandled(true);
+  }
+}
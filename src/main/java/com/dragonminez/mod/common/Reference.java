@@ -33,6 +33,16 @@ public final class Reference {
    */
   public static final String VERSION = "2.0.0";
 
+  /**
+   * The version of the network protocol.
+   * <p>
+   * Clients and servers only connect when their protocol versions match. Network messages are
+   * identified by their registration order, so this must be bumped whenever messages are added,
+   * removed or reordered.
+   * </p>
+   */
+  public static final String PROTOCOL_VERSION = "2";
+
   /**
    * The empty string used to represent an uninitialized or default state.
    * <p>
@@ -50,5 +60,33 @@ public final class Reference {
 
     public static final ResourceLocation CAP_ID = new ResourceLocation("dragonminez:stat");
     public static final StatType[] STATS = StatType.values();
+
+    static {
+      // Stat masks, dirty masks and the packed flags of StatData are all ints.
+      if (STATS.length > Integer.SIZE) {
+        throw new IllegalStateException(
+            "At most " + Integer.SIZE + " stat types are supported, found " + STATS.length);
+      }
+    }
+
+    /**
+     * Mask with the {@link StatType#bit()} of every stat.
+     */
+    public static final int ALL_MASK = -1 >>> (Integer.SIZE - STATS.length);
+
+    /**
+     * Mask with the {@link StatType#bit()} of every public stat.
+     */
+    public static final int PUBLIC_MASK = publicMask();
+
+    private static int publicMask() {
+      int mask = 0;
+      for (StatType type : STATS) {
+        if (type.isPublic()) {
+          mask |= type.bit();
+        }
+      }
+      return mask;
+    }
   }
 }
@@ -2,14 +2,21 @@ package com.dragonminez.mod.common.network;
 
 import com.dragonminez.mod.client.network.NetworkClientManager;
 import com.dragonminez.mod.common.Reference;
+import com.dragonminez.mod.common.network.metrics.NetworkMetrics;
 import com.dragonminez.mod.common.util.LogUtil;
 import com.dragonminez.mod.server.network.NetworkServerManager;
+import com.dragonminez.mod.server.network.PlayerTrackerIndex;
+import java.util.Collection;
 import java.util.function.Consumer;
+import net.minecraft.network.protocol.Packet;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkDirection;
 import net.minecraftforge.network.NetworkRegistry;
 import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.network.simple.SimpleChannel;
+import net.minecraftforge.server.ServerLifecycleHooks;
 
 public class NetworkManager {
 
@@ -20,38 +27,70 @@ public class NetworkManager {
   public void init() {
     this.channel = NetworkRegistry.ChannelBuilder
         .named(new ResourceLocation(Reference.MOD_ID))
-        .networkProtocolVersion(() -> Reference.VERSION)
-        .clientAcceptedVersions(s -> true)
-        .serverAcceptedVersions(s -> true)
+        .networkProtocolVersion(() -> Reference.PROTOCOL_VERSION)
+        .clientAcceptedVersions(Reference.PROTOCOL_VERSION::equals)
+        .serverAcceptedVersions(Reference.PROTOCOL_VERSION::equals)
         .simpleChannel();
     NetworkServerManager.INSTANCE.init(channel);
     NetworkClientManager.INSTANCE.init(channel);
+    NetworkMetrics.INSTANCE.registerMBean();
   }
 
   public <MSG> void sendToServer(MSG message) {
+    NetworkMetrics.INSTANCE.recordSend(message.getClass(), 1);
     this.retrieveChannel(simpleChannel -> simpleChannel.sendToServer(message));
   }
 
   public <MSG> void sendToPlayer(MSG message, ServerPlayer player) {
+    NetworkMetrics.INSTANCE.recordSend(message.getClass(), 1);
     this.retrieveChannel(simpleChannel -> simpleChannel.send(PacketDistributor.PLAYER.with(()
         -> player), message));
   }
 
   public <MSG> void sendToAll(MSG message) {
+    final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+    NetworkMetrics.INSTANCE.recordSend(message.getClass(),
+        server == null ? 0 : server.getPlayerCount());
     this.retrieveChannel(
         simpleChannel -> simpleChannel.send(PacketDistributor.ALL.noArg(), message));
   }
 
   public <MSG> void sendToTracking(ServerPlayer player, MSG message) {
+    NetworkMetrics.INSTANCE.recordSend(message.getClass(),
+        PlayerTrackerIndex.INSTANCE.trackers(player).size());
     this.retrieveChannel(simpleChannel ->
         simpleChannel.send(PacketDistributor.TRACKING_ENTITY.with(() -> player), message));
   }
 
   public <MSG> void sendToTrackingAndSelf(ServerPlayer player, MSG message) {
+    NetworkMetrics.INSTANCE.recordSend(message.getClass(),
+        PlayerTrackerIndex.INSTANCE.trackers(player).size() + 1);
     this.retrieveChannel(simpleChannel ->
         simpleChannel.send(PacketDistributor.TRACKING_ENTITY_AND_SELF.with(() -> player), message));
   }
 
+  /**
+   * Sends a message to several players, encoding it only once. The encoded packet is shared by
+   * every recipient connection.
+   *
+   * @param players The players to send the message to.
+   * @param message The message.
+   * @param <MSG>   The type of message.
+   */
+  public <MSG> void sendToPlayers(Collection<ServerPlayer> players, MSG message) {
+    if (players.isEmpty()) {
+      return;
+    }
+    NetworkMetrics.INSTANCE.recordSend(message.getClass(), players.size());
+    this.retrieveChannel(simpleChannel -> {
+      final Packet<?> packet = simpleChannel.toVanillaPacket(message,
+          NetworkDirection.PLAY_TO_CLIENT);
+      for (ServerPlayer player : players) {
+        player.connection.send(packet);
+      }
+    });
+  }
+
   private void retrieveChannel(Consumer<SimpleChannel> consumer) {
     if (this.channel == null) {
       LogUtil.error(
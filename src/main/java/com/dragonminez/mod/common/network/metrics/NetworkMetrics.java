@@ -0,0 +1,193 @@
+package com.dragonminez.mod.common.network.metrics;
+
+import com.dragonminez.mod.common.util.LogUtil;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+/**
+ * Per message type counters for the DMZ network channel.
+ * <p>
+ * On the sending side it counts sends, recipients, encoded bytes and encode time. On the receiving
+ * side it counts decode and handle time. Encoders, decoders and handlers are measured by wrapping
+ * them when messages are registered, see {@link #encoder}, {@link #decoder} and {@link #handler}.
+ * The counters are shown by the {@code /dmz network metrics} command and exposed through JMX as
+ * {@value #OBJECT_NAME}.
+ * </p>
+ */
+public final class NetworkMetrics implements NetworkMetricsMXBean {
+
+  /**
+   * Singleton instance of NetworkMetrics.
+   */
+  public static final NetworkMetrics INSTANCE = new NetworkMetrics();
+
+  /**
+   * Name the metrics are registered with in the platform MBean server.
+   */
+  public static final String OBJECT_NAME = "com.dragonminez:type=NetworkMetrics";
+
+  private final Map<Class<?>, Counters> counters = new ConcurrentHashMap<>();
+
+  /**
+   * Private constructor to enforce singleton pattern.
+   */
+  private NetworkMetrics() {
+  }
+
+  /**
+   * Registers the metrics in the platform MBean server, so they can be read through JMX.
+   */
+  public void registerMBean() {
+    try {
+      final ObjectName name = new ObjectName(OBJECT_NAME);
+      if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+      }
+    } catch (JMException e) {
+      LogUtil.warn("Could not register network metrics in JMX: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Records a message being sent.
+   *
+   * @param type       the message type.
+   * @param recipients the amount of players the message is sent to.
+   */
+  public void recordSend(Class<?> type, int recipients) {
+    final Counters typeCounters = this.counters(type);
+    typeCounters.sends.increment();
+    typeCounters.recipients.add(recipients);
+  }
+
+  /**
+   * Wraps a message encoder so every encode is measured.
+   *
+   * @param type    the message type.
+   * @param encoder the encoder.
+   * @param <MSG>   the message type.
+   * @return the measured encoder.
+   */
+  public <MSG> BiConsumer<MSG, FriendlyByteBuf> encoder(Class<MSG> type,
+      BiConsumer<MSG, FriendlyByteBuf> encoder) {
+    final Counters typeCounters = this.counters(type);
+    return (message, buf) -> {
+      final int start = buf.writerIndex();
+      final long startNanos = System.nanoTime();
+      encoder.accept(message, buf);
+      typeCounters.encodeNanos.add(System.nanoTime() - startNanos);
+      typeCounters.encodes.increment();
+      typeCounters.bytes.add(buf.writerIndex() - start);
+    };
+  }
+
+  /**
+   * Wraps a message decoder so every decode is measured.
+   *
+   * @param type    the message type.
+   * @param decoder the decoder.
+   * @param <MSG>   the message type.
+   * @return the measured decoder.
+   */
+  public <MSG> Function<FriendlyByteBuf, MSG> decoder(Class<MSG> type,
+      Function<FriendlyByteBuf, MSG> decoder) {
+    final Counters typeCounters = this.counters(type);
+    return buf -> {
+      final long startNanos = System.nanoTime();
+      final MSG message = decoder.apply(buf);
+      typeCounters.decodeNanos.add(System.nanoTime() - startNanos);
+      typeCounters.decodes.increment();
+      return message;
+    };
+  }
+
+  /**
+   * Wraps a message handler so every handle is measured. Handlers registered as main thread
+   * consumers are invoked by the channel from the task it queues on the main thread, so the time is
+   * the actual handling, as long as the handler does not queue its work again.
+   *
+   * @param type    the message type.
+   * @param handler the handler.
+   * @param <MSG>   the message type.
+   * @return the measured handler.
+   */
+  public <MSG> BiConsumer<MSG, Supplier<NetworkEvent.Context>> handler(Class<MSG> type,
+      BiConsumer<MSG, Supplier<NetworkEvent.Context>> handler) {
+    final Counters typeCounters = this.counters(type);
+    return (message, context) -> {
+      final long startNanos = System.nanoTime();
+      handler.accept(message, context);
+      typeCounters.handleNanos.add(System.nanoTime() - startNanos);
+      typeCounters.handles.increment();
+    };
+  }
+
+  /**
+   * @return a snapshot of the counters of every message type, sorted by bytes sent.
+   */
+  @Override
+  public List<PacketStats> getPacketStats() {
+    final List<PacketStats> stats = new ArrayList<>(this.counters.size());
+    this.counters.forEach((type, typeCounters) -> stats.add(typeCounters.snapshot(type)));
+    stats.sort(Comparator.comparingLong(PacketStats::getBytesSent).reversed());
+    return stats;
+  }
+
+  /**
+   * Resets every counter.
+   */
+  @Override
+  public void reset() {
+    this.counters.values().forEach(Counters::reset);
+  }
+
+  private Counters counters(Class<?> type) {
+    return this.counters.computeIfAbsent(type, key -> new Counters());
+  }
+
+  /**
+   * Counters of a single message type.
+   */
+  private static final class Counters {
+
+    private final LongAdder sends = new LongAdder();
+    private final LongAdder recipients = new LongAdder();
+    private final LongAdder encodes = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder encodeNanos = new LongAdder();
+    private final LongAdder decodes = new LongAdder();
+    private final LongAdder decodeNanos = new LongAdder();
+    private final LongAdder handles = new LongAdder();
+    private final LongAdder handleNanos = new LongAdder();
+
+    private PacketStats snapshot(Class<?> type) {
+      return new PacketStats(type.getSimpleName(), this.sends.sum(), this.recipients.sum(),
+          this.encodes.sum(), this.bytes.sum(), this.encodeNanos.sum(), this.decodes.sum(),
+          this.decodeNanos.sum(), this.handles.sum(), this.handleNanos.sum());
+    }
+
+    private void reset() {
+      this.sends.reset();
+      this.recipients.reset();
+      this.encodes.reset();
+      this.bytes.reset();
+      this.encodeNanos.reset();
+      this.decodes.reset();
+      this.decodeNanos.reset();
+      this.handles.reset();
+      this.handleNanos.reset();
+    }
+  }
+}
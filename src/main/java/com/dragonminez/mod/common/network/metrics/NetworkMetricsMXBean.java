@@ -0,0 +1,19 @@
+package com.dragonminez.mod.common.network.metrics;
+
+import java.util.List;
+
+/**
+ * JMX view of {@link NetworkMetrics}.
+ */
+public interface NetworkMetricsMXBean {
+
+  /**
+   * @return a snapshot of the counters of every message type, sorted by bytes sent.
+   */
+  List<PacketStats> getPacketStats();
+
+  /**
+   * Resets every counter.
+   */
+  void reset();
+}
@@ -0,0 +1,125 @@
+package com.dragonminez.mod.common.network.metrics;
+
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Snapshot of the {@link NetworkMetrics} counters of a single message type.
+ */
+public final class PacketStats {
+
+  private final String type;
+  private final long sends;
+  private final long recipients;
+  private final long encodes;
+  private final long bytes;
+  private final long encodeNanos;
+  private final long decodes;
+  private final long decodeNanos;
+  private final long handles;
+  private final long handleNanos;
+
+  public PacketStats(String type, long sends, long recipients, long encodes, long bytes,
+      long encodeNanos, long decodes, long decodeNanos, long handles, long handleNanos) {
+    this.type = type;
+    this.sends = sends;
+    this.recipients = recipients;
+    this.encodes = encodes;
+    this.bytes = bytes;
+    this.encodeNanos = encodeNanos;
+    this.decodes = decodes;
+    this.decodeNanos = decodeNanos;
+    this.handles = handles;
+    this.handleNanos = handleNanos;
+  }
+
+  /**
+   * Rebuilds a snapshot from its JMX form.
+   *
+   * @param data the JMX form of the snapshot.
+   * @return the snapshot.
+   */
+  public static PacketStats from(CompositeData data) {
+    return new PacketStats((String) data.get("type"), (Long) data.get("sends"),
+        (Long) data.get("recipients"), (Long) data.get("encodes"), (Long) data.get("bytes"),
+        (Long) data.get("encodeNanos"), (Long) data.get("decodes"),
+        (Long) data.get("decodeNanos"), (Long) data.get("handles"),
+        (Long) data.get("handleNanos"));
+  }
+
+  /**
+   * @return the simple name of the message type.
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * @return the amount of times the message was sent.
+   */
+  public long getSends() {
+    return sends;
+  }
+
+  /**
+   * @return the amount of players the message was sent to.
+   */
+  public long getRecipients() {
+    return recipients;
+  }
+
+  /**
+   * @return the amount of times the message was encoded.
+   */
+  public long getEncodes() {
+    return encodes;
+  }
+
+  /**
+   * @return the amount of bytes encoded.
+   */
+  public long getBytes() {
+    return bytes;
+  }
+
+  /**
+   * @return the estimated amount of bytes sent, counting every recipient of every encode.
+   */
+  public long getBytesSent() {
+    return this.encodes == 0 ? 0 : this.bytes * this.recipients / this.encodes;
+  }
+
+  /**
+   * @return the total time spent encoding, in nanoseconds.
+   */
+  public long getEncodeNanos() {
+    return encodeNanos;
+  }
+
+  /**
+   * @return the amount of times the message was decoded.
+   */
+  public long getDecodes() {
+    return decodes;
+  }
+
+  /**
+   * @return the total time spent decoding, in nanoseconds.
+   */
+  public long getDecodeNanos() {
+    return decodeNanos;
+  }
+
+  /**
+   * @return the amount of times the message was handled.
+   */
+  public long getHandles() {
+    return handles;
+  }
+
+  /**
+   * @return the total time spent handling, in nanoseconds.
+   */
+  public long getHandleNanos() {
+    return handleNanos;
+  }
+}
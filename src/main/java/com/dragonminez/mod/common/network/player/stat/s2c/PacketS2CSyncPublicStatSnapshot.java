@@ -0,0 +1,101 @@
+package com.dragonminez.mod.common.network.player.stat.s2c;
+
+import com.dragonminez.mod.common.Reference;
+import com.dragonminez.mod.common.player.stat.StatData;
+import com.dragonminez.mod.core.common.network.IPacket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import net.minecraft.network.FriendlyByteBuf;
+
+/**
+ * Packet carrying the public stats of many players at once, sent to a client when it starts
+ * tracking players, such as when logging in to a crowded area.
+ * <p>
+ * One snapshot replaces one public {@link PacketS2CSyncStatDelta} per tracked player, and is applied
+ * on the client in a single main thread task.
+ */
+public class PacketS2CSyncPublicStatSnapshot implements IPacket {
+
+  private final List<Integer> playerIds;
+  private final List<StatPayload> payloads;
+
+  /**
+   * Constructs a new empty snapshot, to be filled with {@link #add}.
+   *
+   * @param expectedSize The expected amount of players in the snapshot.
+   */
+  public PacketS2CSyncPublicStatSnapshot(int expectedSize) {
+    this.playerIds = new ArrayList<>(expectedSize);
+    this.payloads = new ArrayList<>(expectedSize);
+  }
+
+  /**
+   * Constructs a new packet from the incoming network buffer.
+   *
+   * @param buf The buffer to read from.
+   */
+  public PacketS2CSyncPublicStatSnapshot(FriendlyByteBuf buf) {
+    final int size = buf.readVarInt();
+    this.playerIds = new ArrayList<>(size);
+    this.payloads = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      this.playerIds.add(buf.readVarInt());
+      this.payloads.add(StatPayload.read(buf, Reference.Stat.PUBLIC_MASK));
+    }
+  }
+
+  /**
+   * Adds the public stats of a player to the snapshot.
+   *
+   * @param playerId      The ID of the player whose data is being sent.
+   * @param data          The stat data of the player.
+   * @param stringIndexes Resolves the value of a string stat to its string table index. The
+   *                      strings must already be known by the receiving client.
+   */
+  public void add(int playerId, StatData data, ToIntFunction<String> stringIndexes) {
+    this.playerIds.add(playerId);
+    this.payloads.add(StatPayload.capture(data, Reference.Stat.PUBLIC_MASK, stringIndexes));
+  }
+
+  /**
+   * Encodes the packet data to the given buffer for transmission.
+   *
+   * @param buf The buffer to write to.
+   */
+  @Override
+  public void encode(FriendlyByteBuf buf) {
+    buf.writeVarInt(this.playerIds.size());
+    for (int i = 0; i < this.playerIds.size(); i++) {
+      buf.writeVarInt(this.playerIds.get(i));
+      this.payloads.get(i).write(buf);
+    }
+  }
+
+  /**
+   * @return The amount of players in the snapshot.
+   */
+  public int size() {
+    return this.playerIds.size();
+  }
+
+  /**
+   * @param index The index of the entry.
+   * @return The ID of the player of the given entry.
+   */
+  public int getPlayerId(int index) {
+    return this.playerIds.get(index);
+  }
+
+  /**
+   * Copies the public stats of the given entry into the given data, leaving the rest untouched.
+   *
+   * @param index   The index of the entry.
+   * @param data    The stat data to update.
+   * @param strings Resolves a string table index to its string.
+   */
+  public void applyTo(int index, StatData data, IntFunction<String> strings) {
+    this.payloads.get(index).applyTo(data, strings);
+  }
+}
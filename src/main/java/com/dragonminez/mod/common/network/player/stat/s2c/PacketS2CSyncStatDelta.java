@@ -0,0 +1,85 @@
+package com.dragonminez.mod.common.network.player.stat.s2c;
+
+import com.dragonminez.mod.common.player.stat.StatData;
+import com.dragonminez.mod.common.player.stat.model.StatType;
+import com.dragonminez.mod.core.common.network.IPacket;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import net.minecraft.network.FriendlyByteBuf;
+
+/**
+ * Packet for synchronizing only the stats of a player that changed since the last sync.
+ * <p>
+ * The packet carries a mask with one {@link StatType#bit()} per changed stat, followed by the value
+ * of each of those stats in {@link StatType} order. Integers are written as VarInts, so small stat
+ * values take a single byte, and strings as their index in the session string table. The server
+ * sends every changed stat to the owning client, and only the public ones to the clients tracking
+ * the player. A delta with every stat set is used for full syncs.
+ */
+public class PacketS2CSyncStatDelta implements IPacket {
+
+  private final int playerId;
+  private final StatPayload payload;
+
+  /**
+   * Constructs a new packet, copying the current value of the given stats so later changes to the
+   * data do not leak into the packet before it is encoded.
+   *
+   * @param data          The stat data to send.
+   * @param playerId      The ID of the player whose data is being sent.
+   * @param mask          The stats to send, one {@link StatType#bit()} per stat.
+   * @param stringIndexes Resolves the value of a string stat to its string table index. The
+   *                      strings must already be known by the receiving clients.
+   */
+  public PacketS2CSyncStatDelta(StatData data, int playerId, int mask,
+      ToIntFunction<String> stringIndexes) {
+    this.playerId = playerId;
+    this.payload = StatPayload.capture(data, mask, stringIndexes);
+  }
+
+  /**
+   * Constructs a new packet from the incoming network buffer.
+   *
+   * @param buf The buffer to read from.
+   */
+  public PacketS2CSyncStatDelta(FriendlyByteBuf buf) {
+    this.playerId = buf.readVarInt();
+    this.payload = StatPayload.read(buf, buf.readVarInt());
+  }
+
+  /**
+   * Encodes the packet data to the given buffer for transmission.
+   *
+   * @param buf The buffer to write to.
+   */
+  @Override
+  public void encode(FriendlyByteBuf buf) {
+    buf.writeVarInt(this.playerId);
+    buf.writeVarInt(this.payload.mask());
+    this.payload.write(buf);
+  }
+
+  /**
+   * @return The ID of the player associated with this stat packet.
+   */
+  public int getPlayerId() {
+    return this.playerId;
+  }
+
+  /**
+   * @return The stats carried by this packet, one {@link StatType#bit()} per stat.
+   */
+  public int getMask() {
+    return this.payload.mask();
+  }
+
+  /**
+   * Copies the stats carried by this packet into the given data, leaving the rest untouched.
+   *
+   * @param data    The stat data to update.
+   * @param strings Resolves a string table index to its string.
+   */
+  public void applyTo(StatData data, IntFunction<String> strings) {
+    this.payload.applyTo(data, strings);
+  }
+}
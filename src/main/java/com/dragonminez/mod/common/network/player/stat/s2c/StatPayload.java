@@ -0,0 +1,112 @@
+package com.dragonminez.mod.common.network.player.stat.s2c;
+
+import com.dragonminez.mod.common.Reference;
+import com.dragonminez.mod.common.player.stat.StatData;
+import com.dragonminez.mod.common.player.stat.model.StatType;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import net.minecraft.network.FriendlyByteBuf;
+
+/**
+ * The stat values carried by a stat packet, shared by every stat packet codec.
+ * <p>
+ * String stats travel as their index in the session string table. The codec does not know the
+ * table: the server resolves strings to indexes when the payload is captured, and the client
+ * resolves indexes back to strings when the payload is applied.
+ */
+final class StatPayload {
+
+  private final int mask;
+  private final StatData values;
+  private final int[] stringIndexes = new int[Reference.Stat.STATS.length];
+
+  private StatPayload(int mask, StatData values) {
+    this.mask = mask;
+    this.values = values;
+  }
+
+  /**
+   * Captures the current value of the given stats, so later changes to the data do not leak into
+   * the packet before it is encoded.
+   *
+   * @param data          The stat data to capture.
+   * @param mask          The stats to capture, one {@link StatType#bit()} per stat.
+   * @param stringIndexes Resolves the value of a string stat to its string table index.
+   * @return The captured payload.
+   */
+  static StatPayload capture(StatData data, int mask, ToIntFunction<String> stringIndexes) {
+    final StatPayload payload = new StatPayload(mask, new StatData(data));
+    for (StatType type : Reference.Stat.STATS) {
+      if ((mask & type.bit()) != 0 && type.kind() == StatType.Kind.STRING) {
+        payload.stringIndexes[type.ordinal()] = stringIndexes.applyAsInt(data.getString(type));
+      }
+    }
+    return payload;
+  }
+
+  /**
+   * Reads a payload from the incoming network buffer.
+   *
+   * @param buf  The buffer to read from.
+   * @param mask The stats carried by the payload, one {@link StatType#bit()} per stat.
+   * @return The read payload.
+   */
+  static StatPayload read(FriendlyByteBuf buf, int mask) {
+    final StatPayload payload = new StatPayload(mask, new StatData());
+    for (StatType type : Reference.Stat.STATS) {
+      if ((mask & type.bit()) == 0) {
+        continue;
+      }
+      if (type.kind() == StatType.Kind.STRING) {
+        payload.stringIndexes[type.ordinal()] = buf.readVarInt();
+      } else {
+        payload.values.readValue(type, buf);
+      }
+    }
+    return payload;
+  }
+
+  /**
+   * Writes the payload to the given buffer for transmission.
+   *
+   * @param buf The buffer to write to.
+   */
+  void write(FriendlyByteBuf buf) {
+    for (StatType type : Reference.Stat.STATS) {
+      if ((this.mask & type.bit()) == 0) {
+        continue;
+      }
+      if (type.kind() == StatType.Kind.STRING) {
+        buf.writeVarInt(this.stringIndexes[type.ordinal()]);
+      } else {
+        this.values.writeValue(type, buf);
+      }
+    }
+  }
+
+  /**
+   * Copies the carried stats into the given data.
+   *
+   * @param data    The stat data to update.
+   * @param strings Resolves a string table index to its string.
+   */
+  void applyTo(StatData data, IntFunction<String> strings) {
+    for (StatType type : Reference.Stat.STATS) {
+      if ((this.mask & type.bit()) == 0) {
+        continue;
+      }
+      if (type.kind() == StatType.Kind.STRING) {
+        data.setString(type, strings.apply(this.stringIndexes[type.ordinal()]));
+      } else {
+        data.copyValue(type, this.values);
+      }
+    }
+  }
+
+  /**
+   * @return The stats carried by this payload, one {@link StatType#bit()} per stat.
+   */
+  int mask() {
+    return this.mask;
+  }
+}
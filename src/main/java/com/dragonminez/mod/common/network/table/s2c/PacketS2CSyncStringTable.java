@@ -0,0 +1,69 @@
+package com.dragonminez.mod.common.network.table.s2c;
+
+import com.dragonminez.mod.core.common.network.IPacket;
+import net.minecraft.network.FriendlyByteBuf;
+
+/**
+ * Packet for synchronizing entries of the session string table from the server to clients.
+ * <p>
+ * Carries a run of consecutive entries starting at a given index. The server sends the whole table
+ * (starting at index {@code 0}) when a player logs in, and single new entries to every player as
+ * they are added.
+ */
+public class PacketS2CSyncStringTable implements IPacket {
+
+  private final int start;
+  private final String[] entries;
+
+  /**
+   * Constructs a new packet with the given table entries.
+   *
+   * @param start   The index of the first entry.
+   * @param entries The entries.
+   */
+  public PacketS2CSyncStringTable(int start, String[] entries) {
+    this.start = start;
+    this.entries = entries;
+  }
+
+  /**
+   * Constructs a new packet from the incoming network buffer.
+   *
+   * @param buf The buffer to read from.
+   */
+  public PacketS2CSyncStringTable(FriendlyByteBuf buf) {
+    this.start = buf.readVarInt();
+    this.entries = new String[buf.readVarInt()];
+    for (int i = 0; i < this.entries.length; i++) {
+      this.entries[i] = buf.readUtf();
+    }
+  }
+
+  /**
+   * Encodes the packet data to the given buffer for transmission.
+   *
+   * @param buf The buffer to write to.
+   */
+  @Override
+  public void encode(FriendlyByteBuf buf) {
+    buf.writeVarInt(this.start);
+    buf.writeVarInt(this.entries.length);
+    for (String entry : this.entries) {
+      buf.writeUtf(entry);
+    }
+  }
+
+  /**
+   * @return The index of the first entry.
+   */
+  public int getStart() {
+    return this.start;
+  }
+
+  /**
+   * @return The entries carried by this packet.
+   */
+  public String[] getEntries() {
+    return this.entries;
+  }
+}
@@ -2,28 +2,61 @@ package com.dragonminez.mod.common.player.stat;
 
 import com.dragonminez.mod.common.Reference;
 import com.dragonminez.mod.common.player.stat.model.StatType;
+import java.util.Objects;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.common.capabilities.AutoRegisterCapability;
 import net.minecraftforge.common.util.INBTSerializable;
 
+/**
+ * Holds the stats of a player.
+ * <p>
+ * Stats are stored by {@link StatType.Kind}: integer stats in an array indexed by
+ * {@link StatType#ordinal()}, flags in a bitset using {@link StatType#bit()}, and the race and form
+ * as strings. Every stat can be read and written generically by its {@link StatType}, so
+ * serialization, syncing and rendering are plain loops over {@link Reference.Stat#STATS}.
+ */
 @AutoRegisterCapability
 public class StatData implements INBTSerializable<CompoundTag> {
 
+  private static final String NBT_VERSION_KEY = "version";
+  private static final String NBT_INTS_KEY = "ints";
+  private static final String NBT_FLAGS_KEY = "flags";
+
+  /**
+   * Version of the compact NBT layout. Bump it whenever the layout changes. Version 1 stored the
+   * flags as a byte, version 2 as an int, both are read the same way.
+   */
+  private static final byte NBT_VERSION = 2;
+
+  /**
+   * Amount of {@link StatType.Kind#INT} stats, the length of the packed int array.
+   */
+  private static final int INT_STATS = countStats(StatType.Kind.INT);
+
   private String race = Reference.EMPTY;
   private String form = Reference.EMPTY;
 
-  private int strength = 5;
-  private int strikePower = 5;
-  private int energy = 5;
-  private int vitality = 5;
-  private int resistance = 5;
-  private int kiPower = 5;
+  /**
+   * Integer stats, indexed by {@link StatType#ordinal()}. Slots of other kinds are unused.
+   */
+  private final int[] ints = new int[Reference.Stat.STATS.length];
+
+  /**
+   * Flag stats, one {@link StatType#bit()} per stat.
+   */
+  private int flags;
 
-  private int alignment = 100;
-  private boolean isInCombatMode = false;
-  private boolean isBlocking = false;
+  /**
+   * Stats changed since the last sync, one {@link StatType#bit()} per stat. Not persisted.
+   */
+  private int dirtyMask;
 
   public StatData() {
+    for (StatType type : Reference.Stat.STATS) {
+      this.ints[type.ordinal()] = type.defaultInt();
+    }
   }
 
   public StatData(String race, String form, int strength, int strikePower, int energy, int vitality,
@@ -31,47 +64,270 @@ public class StatData implements INBTSerializable<CompoundTag> {
       int kiPower, int alignment, boolean isInCombatMode, boolean isBlocking) {
     this.race = race;
     this.form = form;
-    this.strength = strength;
-    this.strikePower = strikePower;
-    this.energy = energy;
-    this.vitality = vitality;
-    this.resistance = resistance;
-    this.kiPower = kiPower;
-    this.alignment = alignment;
-    this.isInCombatMode = isInCombatMode;
-    this.isBlocking = isBlocking;
+    this.ints[StatType.STRENGTH.ordinal()] = strength;
+    this.ints[StatType.STRIKE_POWER.ordinal()] = strikePower;
+    this.ints[StatType.ENERGY.ordinal()] = energy;
+    this.ints[StatType.VITALITY.ordinal()] = vitality;
+    this.ints[StatType.RESISTANCE.ordinal()] = resistance;
+    this.ints[StatType.KI_POWER.ordinal()] = kiPower;
+    this.ints[StatType.ALIGNMENT.ordinal()] = alignment;
+    this.flags = (isInCombatMode ? StatType.COMBAT_MODE.bit() : 0)
+        | (isBlocking ? StatType.BLOCKING.bit() : 0);
   }
 
+  /**
+   * Creates a snapshot of another instance. The dirty stats are not copied.
+   *
+   * @param other The stat data to copy.
+   */
+  public StatData(StatData other) {
+    this.race = other.race;
+    this.form = other.form;
+    System.arraycopy(other.ints, 0, this.ints, 0, this.ints.length);
+    this.flags = other.flags;
+  }
+
+  /**
+   * Writes the stats using the compact layout: the integer stats packed in one int array and the
+   * flags in one int, both in {@link StatType} order, plus the string stats that are set.
+   */
   @Override
   public CompoundTag serializeNBT() {
     final CompoundTag nbt = new CompoundTag();
-    nbt.putString(StatType.RACE.id(), this.race);
-    nbt.putString(StatType.FORM.id(), this.form);
-    nbt.putInt(StatType.STRENGTH.id(), this.strength);
-    nbt.putInt(StatType.STRIKE_POWER.id(), this.strikePower);
-    nbt.putInt(StatType.ENERGY.id(), this.energy);
-    nbt.putInt(StatType.VITALITY.id(), this.vitality);
-    nbt.putInt(StatType.RESISTANCE.id(), this.resistance);
-    nbt.putInt(StatType.KI_POWER.id(), this.kiPower);
-    nbt.putInt(StatType.ALIGNMENT.id(), this.alignment);
-    nbt.putBoolean(StatType.COMBAT_MODE.id(), this.isInCombatMode);
-    nbt.putBoolean(StatType.BLOCKING.id(), this.isBlocking);
+    nbt.putByte(NBT_VERSION_KEY, NBT_VERSION);
+    final int[] packedInts = new int[INT_STATS];
+    int intIndex = 0;
+    int flagIndex = 0;
+    int packedFlags = 0;
+    for (StatType type : Reference.Stat.STATS) {
+      switch (type.kind()) {
+        case STRING -> {
+          final String value = this.getString(type);
+          if (!Reference.EMPTY.equals(value)) {
+            nbt.putString(type.id(), value);
+          }
+        }
+        case INT -> packedInts[intIndex++] = this.ints[type.ordinal()];
+        case FLAG -> {
+          if (this.getFlag(type)) {
+            packedFlags |= 1 << flagIndex;
+          }
+          flagIndex++;
+        }
+      }
+    }
+    nbt.putIntArray(NBT_INTS_KEY, packedInts);
+    nbt.putInt(NBT_FLAGS_KEY, packedFlags);
     return nbt;
   }
 
+  /**
+   * Reads the stats from either the compact layout or the legacy layout, which stored every stat
+   * under its own {@link StatType#id()} key. Stats missing from the tag keep their defaults.
+   */
   @Override
   public void deserializeNBT(CompoundTag nbt) {
-    this.race = nbt.getString(StatType.RACE.id());
-    this.form = nbt.getString(StatType.FORM.id());
-    this.strength = nbt.getInt(StatType.STRENGTH.id());
-    this.strikePower = nbt.getInt(StatType.STRIKE_POWER.id());
-    this.energy = nbt.getInt(StatType.ENERGY.id());
-    this.vitality = nbt.getInt(StatType.VITALITY.id());
-    this.resistance = nbt.getInt(StatType.RESISTANCE.id());
-    this.kiPower = nbt.getInt(StatType.KI_POWER.id());
-    this.alignment = nbt.getInt(StatType.ALIGNMENT.id());
-    this.isInCombatMode = nbt.getBoolean(StatType.COMBAT_MODE.id());
-    this.isBlocking = nbt.getBoolean(StatType.BLOCKING.id());
+    if (!nbt.contains(NBT_VERSION_KEY, Tag.TAG_BYTE)) {
+      this.deserializeLegacyNBT(nbt);
+      return;
+    }
+    final int[] packedInts = nbt.getIntArray(NBT_INTS_KEY);
+    // Reads both the byte of version 1 and the int of later versions.
+    final int packedFlags = nbt.getInt(NBT_FLAGS_KEY);
+    int intIndex = 0;
+    int flagIndex = 0;
+    for (StatType type : Reference.Stat.STATS) {
+      switch (type.kind()) {
+        case STRING -> this.putString(type, readString(nbt, type));
+        case INT -> {
+          this.ints[type.ordinal()] =
+              intIndex < packedInts.length ? packedInts[intIndex] : type.defaultInt();
+          intIndex++;
+        }
+        case FLAG -> this.putFlag(type, (packedFlags & (1 << flagIndex++)) != 0);
+      }
+    }
+  }
+
+  /**
+   * Reads the stats from the legacy layout, with every stat under its own {@link StatType#id()}
+   * key. Kept so existing player files migrate to the compact layout on their next save.
+   */
+  private void deserializeLegacyNBT(CompoundTag nbt) {
+    for (StatType type : Reference.Stat.STATS) {
+      switch (type.kind()) {
+        case STRING -> this.putString(type, readString(nbt, type));
+        case INT -> this.ints[type.ordinal()] = nbt.contains(type.id(), Tag.TAG_INT)
+            ? nbt.getInt(type.id()) : type.defaultInt();
+        case FLAG -> this.putFlag(type, nbt.getBoolean(type.id()));
+      }
+    }
+  }
+
+  /**
+   * Gets the value of a {@link StatType.Kind#STRING} stat.
+   *
+   * @param type The stat.
+   * @return The value of the stat.
+   * @throws IllegalArgumentException if the stat does not hold a string.
+   */
+  public String getString(StatType type) {
+    return switch (type) {
+      case RACE -> this.race;
+      case FORM -> this.form;
+      default -> throw new IllegalArgumentException(type + " is not a string stat");
+    };
+  }
+
+  /**
+   * Sets the value of a {@link StatType.Kind#STRING} stat, marking it as dirty if it changes.
+   *
+   * @param type  The stat.
+   * @param value The new value.
+   * @throws IllegalArgumentException if the stat does not hold a string.
+   */
+  public void setString(StatType type, String value) {
+    if (!Objects.equals(this.getString(type), value)) {
+      this.putString(type, value);
+      this.markDirty(type);
+    }
+  }
+
+  /**
+   * Gets the value of a {@link StatType.Kind#INT} stat.
+   *
+   * @param type The stat.
+   * @return The value of the stat.
+   * @throws IllegalArgumentException if the stat does not hold an integer.
+   */
+  public int getInt(StatType type) {
+    checkKind(type, StatType.Kind.INT);
+    return this.ints[type.ordinal()];
+  }
+
+  /**
+   * Sets the value of a {@link StatType.Kind#INT} stat, marking it as dirty if it changes.
+   *
+   * @param type  The stat.
+   * @param value The new value.
+   * @throws IllegalArgumentException if the stat does not hold an integer.
+   */
+  public void setInt(StatType type, int value) {
+    checkKind(type, StatType.Kind.INT);
+    if (this.ints[type.ordinal()] != value) {
+      this.ints[type.ordinal()] = value;
+      this.markDirty(type);
+    }
+  }
+
+  /**
+   * Gets the value of a {@link StatType.Kind#FLAG} stat.
+   *
+   * @param type The stat.
+   * @return The value of the stat.
+   * @throws IllegalArgumentException if the stat is not a flag.
+   */
+  public boolean getFlag(StatType type) {
+    checkKind(type, StatType.Kind.FLAG);
+    return (this.flags & type.bit()) != 0;
+  }
+
+  /**
+   * Sets the value of a {@link StatType.Kind#FLAG} stat, marking it as dirty if it changes.
+   *
+   * @param type  The stat.
+   * @param value The new value.
+   * @throws IllegalArgumentException if the stat is not a flag.
+   */
+  public void setFlag(StatType type, boolean value) {
+    if (this.getFlag(type) != value) {
+      this.putFlag(type, value);
+      this.markDirty(type);
+    }
+  }
+
+  /**
+   * Gets the value of any stat as a string, used for display.
+   *
+   * @param type The stat.
+   * @return The value of the stat as a string.
+   */
+  public String getAsString(StatType type) {
+    return switch (type.kind()) {
+      case STRING -> this.getString(type);
+      case INT -> Integer.toString(this.ints[type.ordinal()]);
+      case FLAG -> Boolean.toString(this.getFlag(type));
+    };
+  }
+
+  /**
+   * Writes the value of a stat to a network buffer. Integers are written as VarInts. String stats
+   * are sent as string table indexes by the packets instead.
+   *
+   * @param type The stat.
+   * @param buf  The buffer to write to.
+   * @throws IllegalArgumentException if the stat is a string stat.
+   */
+  public void writeValue(StatType type, FriendlyByteBuf buf) {
+    switch (type.kind()) {
+      case STRING -> throw new IllegalArgumentException("Cannot write string stat " + type);
+      case INT -> buf.writeVarInt(this.ints[type.ordinal()]);
+      case FLAG -> buf.writeBoolean(this.getFlag(type));
+    }
+  }
+
+  /**
+   * Reads the value of a stat from a network buffer, as written by
+   * {@link #writeValue(StatType, FriendlyByteBuf)}.
+   *
+   * @param type The stat.
+   * @param buf  The buffer to read from.
+   * @throws IllegalArgumentException if the stat is a string stat.
+   */
+  public void readValue(StatType type, FriendlyByteBuf buf) {
+    switch (type.kind()) {
+      case STRING -> throw new IllegalArgumentException("Cannot read string stat " + type);
+      case INT -> this.setInt(type, buf.readVarInt());
+      case FLAG -> this.setFlag(type, buf.readBoolean());
+    }
+  }
+
+  /**
+   * Copies the value of a single stat from another instance, marking it as dirty if it changes.
+   *
+   * @param type  The stat.
+   * @param other The stat data to copy from.
+   */
+  public void copyValue(StatType type, StatData other) {
+    switch (type.kind()) {
+      case STRING -> this.setString(type, other.getString(type));
+      case INT -> this.setInt(type, other.ints[type.ordinal()]);
+      case FLAG -> this.setFlag(type, other.getFlag(type));
+    }
+  }
+
+  /**
+   * Copies the stats selected by a mask from another instance, marking the ones that change as
+   * dirty.
+   *
+   * @param other The stat data to copy from.
+   * @param mask  The stats to copy, one {@link StatType#bit()} per stat.
+   */
+  public void copyFrom(StatData other, int mask) {
+    for (StatType type : Reference.Stat.STATS) {
+      if ((mask & type.bit()) != 0) {
+        this.copyValue(type, other);
+      }
+    }
+  }
+
+  /**
+   * Copies every stat from another instance, marking the ones that change as dirty.
+   *
+   * @param other The stat data to copy from.
+   */
+  public void copyFrom(StatData other) {
+    this.copyFrom(other, Reference.Stat.ALL_MASK);
   }
 
   public String getRace() {
@@ -79,7 +335,7 @@ public class StatData implements INBTSerializable<CompoundTag> {
   }
 
   public void setRace(String race) {
-    this.race = race;
+    this.setString(StatType.RACE, race);
   }
 
   public String getForm() {
@@ -87,78 +343,155 @@ public class StatData implements INBTSerializable<CompoundTag> {
   }
 
   public void setForm(String form) {
-    this.form = form;
+    this.setString(StatType.FORM, form);
   }
 
   public int getStrength() {
-    return strength;
+    return this.ints[StatType.STRENGTH.ordinal()];
   }
 
   public void setStrength(int strength) {
-    this.strength = strength;
+    this.setInt(StatType.STRENGTH, strength);
   }
 
   public int getStrikePower() {
-    return strikePower;
+    return this.ints[StatType.STRIKE_POWER.ordinal()];
   }
 
   public void setStrikePower(int strikePower) {
-    this.strikePower = strikePower;
+    this.setInt(StatType.STRIKE_POWER, strikePower);
   }
 
   public int getEnergy() {
-    return energy;
+    return this.ints[StatType.ENERGY.ordinal()];
   }
 
   public void setEnergy(int energy) {
-    this.energy = energy;
+    this.setInt(StatType.ENERGY, energy);
   }
 
   public int getVitality() {
-    return vitality;
+    return this.ints[StatType.VITALITY.ordinal()];
   }
 
   public void setVitality(int vitality) {
-    this.vitality = vitality;
+    this.setInt(StatType.VITALITY, vitality);
   }
 
   public int getResistance() {
-    return resistance;
+    return this.ints[StatType.RESISTANCE.ordinal()];
   }
 
   public void setResistance(int resistance) {
-    this.resistance = resistance;
+    this.setInt(StatType.RESISTANCE, resistance);
   }
 
   public int getKiPower() {
-    return kiPower;
+    return this.ints[StatType.KI_POWER.ordinal()];
   }
 
   public void setKiPower(int kiPower) {
-    this.kiPower = kiPower;
+    this.setInt(StatType.KI_POWER, kiPower);
   }
 
   public int getAlignment() {
-    return alignment;
+    return this.ints[StatType.ALIGNMENT.ordinal()];
   }
 
   public void setAlignment(int alignment) {
-    this.alignment = alignment;
+    this.setInt(StatType.ALIGNMENT, alignment);
   }
 
   public boolean isInCombatMode() {
-    return isInCombatMode;
+    return (this.flags & StatType.COMBAT_MODE.bit()) != 0;
   }
 
   public void setCombatMode(boolean inCombatMode) {
-    isInCombatMode = inCombatMode;
+    this.setFlag(StatType.COMBAT_MODE, inCombatMode);
   }
 
   public boolean isBlocking() {
-    return isBlocking;
+    return (this.flags & StatType.BLOCKING.bit()) != 0;
   }
 
   public void setBlocking(boolean blocking) {
-    isBlocking = blocking;
+    this.setFlag(StatType.BLOCKING, blocking);
+  }
+
+  /**
+   * Marks a stat as changed since the last sync.
+   *
+   * @param type The changed stat.
+   */
+  public void markDirty(StatType type) {
+    this.dirtyMask |= type.bit();
+  }
+
+  /**
+   * Marks several stats as changed since the last sync.
+   *
+   * @param mask The changed stats, one {@link StatType#bit()} per stat.
+   */
+  public void markDirty(int mask) {
+    this.dirtyMask |= mask;
+  }
+
+  /**
+   * Marks every stat as changed, forcing the next sync to send all of them.
+   */
+  public void markAllDirty() {
+    this.dirtyMask = Reference.Stat.ALL_MASK;
+  }
+
+  /**
+   * @return The stats changed since the last sync, one {@link StatType#bit()} per stat.
+   */
+  public int getDirtyMask() {
+    return dirtyMask;
+  }
+
+  /**
+   * Clears the changed stats, once they have been synced.
+   */
+  public void clearDirty() {
+    this.dirtyMask = 0;
+  }
+
+  /**
+   * Stores a string stat without dirty tracking.
+   */
+  private void putString(StatType type, String value) {
+    switch (type) {
+      case RACE -> this.race = value;
+      case FORM -> this.form = value;
+      default -> throw new IllegalArgumentException(type + " is not a string stat");
+    }
+  }
+
+  /**
+   * Stores a flag stat without dirty tracking.
+   */
+  private void putFlag(StatType type, boolean value) {
+    this.flags = value ? this.flags | type.bit() : this.flags & ~type.bit();
+  }
+
+  private static String readString(CompoundTag nbt, StatType type) {
+    return nbt.contains(type.id(), Tag.TAG_STRING) ? nbt.getString(type.id()) : Reference.EMPTY;
+  }
+
+  private static int countStats(StatType.Kind kind) {
+    int count = 0;
+    for (StatType type : Reference.Stat.STATS) {
+      if (type.kind() == kind) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static void checkKind(StatType type, StatType.Kind kind) {
+    if (type.kind() != kind) {
+      throw new IllegalArgumentException(type + " is not a " + kind + " stat");
+    }
   }
 }
@@ -15,6 +15,8 @@ public class StatListener {
     if (!(event.getObject() instanceof Player)) {
       return;
     }
-    event.addCapability(Reference.Stat.CAP_ID, StatManager.INSTANCE);
+    final StatProvider provider = new StatProvider();
+    event.addCapability(Reference.Stat.CAP_ID, provider);
+    event.addListener(provider::invalidate);
   }
 }
@@ -1,14 +1,10 @@
 package com.dragonminez.mod.common.player.stat;
 
 import java.util.function.Consumer;
-import net.minecraft.core.Direction;
 import net.minecraft.world.entity.player.Player;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityManager;
 import net.minecraftforge.common.capabilities.CapabilityToken;
-import net.minecraftforge.common.capabilities.ICapabilityProvider;
-import net.minecraftforge.common.util.LazyOptional;
-import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -16,9 +12,10 @@ import org.jetbrains.annotations.Nullable;
  * system.
  * <p>
  * Serves as a common superclass for both client- and server-specific stat managers. Intended to be
- * accessed statically via {@link StatManager#INSTANCE}.
+ * accessed statically via {@link StatManager#INSTANCE}. The data itself is owned by the
+ * {@link StatProvider} attached to each player.
  */
-public class StatManager implements ICapabilityProvider {
+public class StatManager {
 
   /**
    * Global shared instance of the stat manager.
@@ -37,18 +34,6 @@ public class StatManager implements ICapabilityProvider {
   protected StatManager() {
   }
 
-  /**
-   * Updates a player's {@link StatData} by overwriting it with the contents of another
-   * {@link StatData} instance.
-   *
-   * @param player      The player whose data is being updated.
-   * @param newStatData The new stat data to apply to the player.
-   */
-  public void update(Player player, StatData newStatData) {
-    this.retrieveStatData(player, oldStatData ->
-        oldStatData.deserializeNBT(newStatData.serializeNBT()));
-  }
-
   /**
    * Retrieves a player's {@link StatData} and applies a consumer to it if present.
    *
@@ -56,22 +41,26 @@ public class StatManager implements ICapabilityProvider {
    * @param consumer The consumer to apply if the capability exists.
    */
   public void retrieveStatData(Player player, Consumer<StatData> consumer) {
-    player.getCapability(this.capability)
-        .ifPresent(consumer::accept);
+    final StatData data = this.getStatData(player);
+    if (data != null) {
+      consumer.accept(data);
+    }
   }
 
   /**
-   * Provides the {@link StatData} capability implementation to the capability system. This method
-   * is part of Forge's {@link ICapabilityProvider} interface.
+   * Retrieves a player's {@link StatData}.
    *
-   * @param cap  The requested capability type.
-   * @param side The direction (not used for player entities).
-   * @param <T>  The generic type of the capability.
-   * @return A {@link LazyOptional} containing the capability if it matches.
+   * @param player The player whose stat data is to be retrieved.
+   * @return The stat data, or {@code null} if the player does not have the capability.
+   */
+  public @Nullable StatData getStatData(Player player) {
+    return player.getCapability(this.capability).orElse(null);
+  }
+
+  /**
+   * @return The registered capability for {@link StatData}.
    */
-  @Override
-  public @NotNull <T> LazyOptional<T> getCapability(@NotNull Capability<T> cap,
-      @Nullable Direction side) {
-    return this.capability.orEmpty(cap, LazyOptional.of(StatData::new));
+  public Capability<StatData> capability() {
+    return this.capability;
   }
 }
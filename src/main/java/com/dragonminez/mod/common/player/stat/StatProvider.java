@@ -0,0 +1,70 @@
+package com.dragonminez.mod.common.player.stat;
+
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.ICapabilitySerializable;
+import net.minecraftforge.common.util.LazyOptional;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Capability provider attached to every player, owning that player's {@link StatData}.
+ * <p>
+ * The data and the {@link LazyOptional} exposing it are created once per player, so capability
+ * lookups never allocate. The optional is invalidated together with the player's capabilities, and
+ * recreated on the next lookup once they are revived, such as by
+ * {@link net.minecraftforge.event.entity.player.PlayerEvent.Clone} listeners reading the stats of
+ * the original player.
+ * <p>
+ * Unlike the shared provider it replaces, this provider is serializable: stats are saved in the
+ * player data under {@link com.dragonminez.mod.common.Reference.Stat#CAP_ID}, restored on login
+ * and carried over to the new player entity on respawn. Worlds saved before this change have no
+ * stat tag, so their players start with the default stats, the same values they got on every
+ * login before.
+ */
+public class StatProvider implements ICapabilitySerializable<CompoundTag> {
+
+  private final StatData data = new StatData();
+  private LazyOptional<StatData> optional = this.createOptional();
+
+  /**
+   * Provides the player's {@link StatData} to the capability system. Forge only asks the provider
+   * while the player's capabilities are valid, so an optional invalidated before a
+   * {@code reviveCaps()} is replaced by a new one.
+   *
+   * @param cap  The requested capability type.
+   * @param side The direction (not used for player entities).
+   * @param <T>  The generic type of the capability.
+   * @return A {@link LazyOptional} containing the capability if it matches.
+   */
+  @Override
+  public @NotNull <T> LazyOptional<T> getCapability(@NotNull Capability<T> cap,
+      @Nullable Direction side) {
+    if (!this.optional.isPresent()) {
+      this.optional = this.createOptional();
+    }
+    return StatManager.INSTANCE.capability().orEmpty(cap, this.optional);
+  }
+
+  @Override
+  public CompoundTag serializeNBT() {
+    return this.data.serializeNBT();
+  }
+
+  @Override
+  public void deserializeNBT(CompoundTag nbt) {
+    this.data.deserializeNBT(nbt);
+  }
+
+  /**
+   * Invalidates the exposed {@link LazyOptional}, once the player's capabilities are invalidated.
+   */
+  public void invalidate() {
+    this.optional.invalidate();
+  }
+
+  private LazyOptional<StatData> createOptional() {
+    return LazyOptional.of(() -> this.data);
+  }
+}
@@ -1,7 +1,6 @@
 package com.dragonminez.mod.common.player.stat.model;
 
-import com.dragonminez.mod.common.network.player.stat.s2c.PacketS2CSyncPublicStat;
-import com.dragonminez.mod.common.network.player.stat.s2c.PacketS2CSyncStat;
+import com.dragonminez.mod.common.network.player.stat.s2c.PacketS2CSyncStatDelta;
 
 /**
  * Represents different types of player stats in the game.
@@ -13,43 +12,47 @@ import com.dragonminez.mod.common.network.player.stat.s2c.PacketS2CSyncStat;
  * </ul>
  * <p>
  * This separation exists to protect sensitive player data and improve network efficiency.
- * For example, {@link PacketS2CSyncPublicStat}
- * handles public data only, while {@link PacketS2CSyncStat}
- * includes full private details and is only sent to the owning client.
+ * For example, the {@link PacketS2CSyncStatDelta} sent to tracking players
+ * carries public data only, while the one sent to the owning client
+ * includes full private details.
  */
 public enum StatType {
-  RACE(true),
-  FORM(true),
-  STRENGTH("STR", false),
-  STRIKE_POWER("SKP", false),
-  ENERGY("ENE", false),
-  VITALITY("VIT", false),
-  RESISTANCE("RES", false),
-  KI_POWER("PWR", false),
-  ALIGNMENT(false),
-  COMBAT_MODE(true),
-  BLOCKING(true);
+  RACE(Kind.STRING, true),
+  FORM(Kind.STRING, true),
+  STRENGTH(Kind.INT, "STR", false, 5),
+  STRIKE_POWER(Kind.INT, "SKP", false, 5),
+  ENERGY(Kind.INT, "ENE", false, 5),
+  VITALITY(Kind.INT, "VIT", false, 5),
+  RESISTANCE(Kind.INT, "RES", false, 5),
+  KI_POWER(Kind.INT, "PWR", false, 5),
+  ALIGNMENT(Kind.INT, "", false, 100),
+  COMBAT_MODE(Kind.FLAG, true),
+  BLOCKING(Kind.FLAG, true);
 
   private final String id;
   private final String legibleId;
   private final String abbreviation;
   private final boolean isPublic;
+  private final Kind kind;
+  private final int defaultInt;
 
   /**
-   * @param isPublic Whether this stat is public (visible to other players).
+   * @param kind         The kind of value this stat holds.
+   * @param abbreviation The abbreviation of the stat.
+   * @param isPublic     Whether this stat is public (visible to other players).
+   * @param defaultInt   The default value of the stat, only used by {@link Kind#INT} stats.
    */
-  StatType(String abbreviation, boolean isPublic) {
+  StatType(Kind kind, String abbreviation, boolean isPublic, int defaultInt) {
     this.id = this.name().toLowerCase();
     this.legibleId = this.createLegibleId();
     this.abbreviation = abbreviation;
     this.isPublic = isPublic;
+    this.kind = kind;
+    this.defaultInt = defaultInt;
   }
 
-  StatType(boolean isPublic) {
-    this.id = this.name().toLowerCase();
-    this.legibleId = this.createLegibleId();
-    this.abbreviation = "";
-    this.isPublic = isPublic;
+  StatType(Kind kind, boolean isPublic) {
+    this(kind, "", isPublic, 0);
   }
 
   /**
@@ -80,6 +83,27 @@ public enum StatType {
     return this.isPublic;
   }
 
+  /**
+   * Gets the kind of value this stat holds.
+   */
+  public Kind kind() {
+    return this.kind;
+  }
+
+  /**
+   * Gets the default value of the stat. Only meaningful for {@link Kind#INT} stats.
+   */
+  public int defaultInt() {
+    return this.defaultInt;
+  }
+
+  /**
+   * Gets the bit representing this stat in stat masks, such as dirty masks and delta packets.
+   */
+  public int bit() {
+    return 1 << this.ordinal();
+  }
+
   /**
    * Converts the enum name to a legible, title-case string with spaces.
    */
@@ -99,4 +123,22 @@ public enum StatType {
 
     return result.toString();
   }
+
+  /**
+   * The kind of value held by a stat, which decides how it is stored, persisted and synced.
+   */
+  public enum Kind {
+    /**
+     * A string value, such as a race or form identifier.
+     */
+    STRING,
+    /**
+     * An integer value, such as strength or alignment.
+     */
+    INT,
+    /**
+     * A boolean flag, such as whether the player is blocking.
+     */
+    FLAG
+  }
 }
@@ -1,6 +1,7 @@
 package com.dragonminez.mod.common.util;
 
 import com.dragonminez.mod.common.Reference;
+import java.util.function.Supplier;
 import net.minecraft.CrashReport;
 import net.minecraft.CrashReportCategory;
 import net.minecraft.ReportedException;
@@ -11,6 +12,11 @@ import net.minecraftforge.fml.ModLoadingWarning;
 import net.minecraftforge.forgespi.language.IModInfo;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AsyncAppender;
+import org.apache.logging.log4j.core.config.AppenderRef;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
 
 /**
  * Utility class for centralized logging in the mod.
@@ -20,6 +26,11 @@ import org.apache.logging.log4j.Logger;
  * for generating custom crash reports.
  * </p>
  * <p>
+ * Messages that are expensive to build can be passed as a {@link Supplier}, which is only called
+ * when the level is enabled. DMZ messages can also be written from a background thread through a
+ * bounded queue, see {@link #init()}.
+ * </p>
+ * <p>
  * This class is not instantiable and only contains static methods.
  * </p>
  */
@@ -27,6 +38,72 @@ public final class LogUtil {
 
   private static final Logger LOGGER = LogManager.getLogger();
 
+  /**
+   * Whether DMZ messages are handed to a background thread instead of being written on the calling
+   * thread. Enabled with the {@code -Ddragonminez.log.async=true} JVM argument.
+   */
+  private static final boolean ASYNC = Boolean.getBoolean("dragonminez.log.async");
+
+  /**
+   * What to do when the async queue is full: {@code drop} discards the message, {@code block} waits
+   * for the background thread to catch up.
+   */
+  private static final String ASYNC_OVERFLOW =
+      System.getProperty("dragonminez.log.async.overflow", "drop");
+
+  /**
+   * Amount of messages the async queue holds.
+   */
+  private static final int ASYNC_BUFFER_SIZE =
+      Integer.getInteger("dragonminez.log.async.bufferSize", 1024);
+
+  /**
+   * Name of the async appender in the log4j configuration.
+   */
+  private static final String ASYNC_APPENDER_NAME = "DragonMineZAsync";
+
+  /**
+   * Sets up asynchronous logging when enabled through {@code dragonminez.log.async}. DMZ messages
+   * are then queued to a log4j async appender that forwards them to the same appenders they would
+   * have reached before, so the output and the thread names it shows do not change.
+   */
+  public static void init() {
+    if (!ASYNC) {
+      return;
+    }
+    if (!(LOGGER instanceof org.apache.logging.log4j.core.Logger coreLogger)) {
+      LOGGER.warn("Async logging is only supported with log4j core, logging synchronously");
+      return;
+    }
+    final LoggerContext context = coreLogger.getContext();
+    final Configuration configuration = context.getConfiguration();
+    if (configuration.getAppender(ASYNC_APPENDER_NAME) != null) {
+      return;
+    }
+    final LoggerConfig inherited = configuration.getLoggerConfig(LOGGER.getName());
+    final boolean blocking = "block".equalsIgnoreCase(ASYNC_OVERFLOW);
+    final AsyncAppender appender = AsyncAppender.newBuilder()
+        .setName(ASYNC_APPENDER_NAME)
+        .setAppenderRefs(inherited.getAppenderRefs().toArray(new AppenderRef[0]))
+        .setConfiguration(configuration)
+        .setBufferSize(ASYNC_BUFFER_SIZE)
+        .setBlocking(blocking)
+        .setIncludeLocation(false)
+        .build();
+    appender.start();
+    configuration.addAppender(appender);
+
+    final LoggerConfig loggerConfig = LoggerConfig.createLogger(false, inherited.getLevel(),
+        LOGGER.getName(), "false", new AppenderRef[]{
+            AppenderRef.createAppenderRef(ASYNC_APPENDER_NAME, null, null)},
+        null, configuration, inherited.getFilter());
+    loggerConfig.addAppender(appender, null, null);
+    configuration.addLogger(LOGGER.getName(), loggerConfig);
+    context.updateLoggers();
+    LOGGER.info("Async logging enabled, buffer of {} messages, {} when full", ASYNC_BUFFER_SIZE,
+        blocking ? "blocking" : "dropping");
+  }
+
   /**
    * Logs an informational message with optional parameters.
    *
@@ -37,6 +114,17 @@ public final class LogUtil {
     LOGGER.info(message, args);
   }
 
+  /**
+   * Logs an informational message, building it only if info logging is enabled.
+   *
+   * @param message Supplier of the message.
+   */
+  public static void info(Supplier<String> message) {
+    if (LOGGER.isInfoEnabled()) {
+      LOGGER.info(message.get());
+    }
+  }
+
   /**
    * Logs a warning message with optional parameters.
    *
@@ -47,6 +135,17 @@ public final class LogUtil {
     LOGGER.warn(message, args);
   }
 
+  /**
+   * Logs a warning message, building it only if warning logging is enabled.
+   *
+   * @param message Supplier of the warning message.
+   */
+  public static void warn(Supplier<String> message) {
+    if (LOGGER.isWarnEnabled()) {
+      LOGGER.warn(message.get());
+    }
+  }
+
   /**
    * Logs a mod-specific warning message.
    * <p>
@@ -72,6 +171,17 @@ public final class LogUtil {
     LOGGER.error(message, args);
   }
 
+  /**
+   * Logs an error message, building it only if error logging is enabled.
+   *
+   * @param message Supplier of the error message.
+   */
+  public static void error(Supplier<String> message) {
+    if (LOGGER.isErrorEnabled()) {
+      LOGGER.error(message.get());
+    }
+  }
+
   /**
    * Logs a debug message with optional parameters.
    * <p>
@@ -85,6 +195,27 @@ public final class LogUtil {
     LOGGER.debug(message, args);
   }
 
+  /**
+   * Logs a debug message, building it only if debug logging is enabled.
+   *
+   * @param message Supplier of the debug message.
+   */
+  public static void debug(Supplier<String> message) {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(message.get());
+    }
+  }
+
+  /**
+   * Checks whether debug messages are logged, so messages that are expensive to build can be
+   * skipped entirely when they would be discarded.
+   *
+   * @return true if debug logging is enabled.
+   */
+  public static boolean isDebugEnabled() {
+    return LOGGER.isDebugEnabled();
+  }
+
   /**
    * Issues a mod loading warning through Forge's mod loading system.
    *
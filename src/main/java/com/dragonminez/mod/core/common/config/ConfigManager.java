@@ -6,19 +6,29 @@ import com.dragonminez.mod.core.common.config.event.RegisterConfigHandlerEvent;
 import com.dragonminez.mod.core.common.config.model.ConfigType;
 import com.dragonminez.mod.core.common.config.model.IConfigHandler;
 import com.dragonminez.mod.core.common.config.util.JacksonUtil;
+import com.dragonminez.mod.core.common.config.util.ModConfigManifest;
 import com.dragonminez.mod.core.common.config.util.ModLoadUtil;
+import com.google.common.collect.Maps;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.FileSystem;
-import java.nio.file.FileSystems;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import net.minecraftforge.common.MinecraftForge;
@@ -47,16 +57,45 @@ public final class ConfigManager {
       "assets" + File.separator + Reference.MOD_ID
           + File.separator + "config" + File.separator + "runtime";
 
+  /**
+   * Whether runtime configuration files should be parsed in parallel on a fork-join pool. Enabled
+   * with the {@code -Ddragonminez.config.parallel=true} JVM argument, since the general config is
+   * loaded by this very pipeline and cannot be used to toggle it.
+   */
+  private static final boolean PARALLEL_LOADING = Boolean.getBoolean("dragonminez.config.parallel");
+
   /**
    * Map storing registered configuration handlers by their identifier.
    */
   private final HashMap<String, IConfigHandler<?>> handlers = new HashMap<>();
 
   /**
-   * List of paths that do not exist. This is used to avoid duplicate loading of static
-   * configurations.
+   * Handlers loaded on the current side, by identifier. Filled once the registration event has
+   * been dispatched.
+   */
+  private final Map<String, IConfigHandler<?>> sidedHandlers = new HashMap<>();
+
+  /**
+   * Handlers loaded on the current side, grouped by type and sorted by priority. Filled once the
+   * registration event has been dispatched.
+   */
+  private final Map<ConfigType, List<IConfigHandler<?>>> sidedHandlersByType =
+      new EnumMap<>(ConfigType.class);
+
+  /**
+   * Every handler loaded on the current side, sorted by priority.
+   */
+  private List<IConfigHandler<?>> sortedHandlers = List.of();
+
+  /**
+   * Whether the registration event has been dispatched and no more handlers can be registered.
+   */
+  private boolean frozen;
+
+  /**
+   * Loading timings per handler identifier, reported once initialization finishes.
    */
-  private final List<String> pathsToSkip = new ArrayList<>();
+  private final Map<String, LoadTiming> loadTimings = new LinkedHashMap<>();
 
   /**
    * Private constructor to enforce singleton pattern.
@@ -65,13 +104,19 @@ public final class ConfigManager {
   }
 
   /**
-   * Initializes the configuration manager by clearing handlers and loading configurations.
+   * Initializes the configuration manager by registering the handlers and loading configurations.
+   * Runs once during mod construction, since handlers cannot be registered again afterwards.
    */
   public void init() {
+    if (this.frozen) {
+      LogUtil.error("Configuration manager was already initialized, skipping.");
+      return;
+    }
+    final long start = System.nanoTime();
     this.fireDispatcher();
     this.loadStaticConfigs();
     this.loadRuntimeConfigs();
-    this.pathsToSkip.clear();
+    this.reportTimings(System.nanoTime() - start);
   }
 
   /**
@@ -80,6 +125,11 @@ public final class ConfigManager {
    * @param handler the configuration handler to register.
    */
   public void register(IConfigHandler<?> handler) {
+    if (this.frozen) {
+      LogUtil.crash("Configuration Handler with identifier " + handler.identifier()
+          + " was registered after RegisterConfigHandlerEvent was dispatched.");
+      return;
+    }
     if (this.handlers.containsKey(handler.identifier())) {
       LogUtil.crash(
           "Configuration Handler with identifier " + handler.identifier() + " already exists.");
@@ -89,111 +139,98 @@ public final class ConfigManager {
   }
 
   /**
-   * Loads static configurations from mod assets.
+   * Loads static configurations from mod assets. Each mod file is scanned exactly once into a
+   * {@link ModConfigManifest}, and every handler then pulls its files from that manifest.
    */
   private void loadStaticConfigs() {
     LogUtil.info("Scanning all mods for static DMZ configurations...");
+    final List<IConfigHandler<?>> defaultHandlers = this.handlers(ConfigType.RUNTIME).stream()
+        .filter(IConfigHandler::hasDefault)
+        .toList();
+    final List<IConfigHandler<?>> staticHandlers = this.handlers(ConfigType.STATIC);
+    final Set<Path> scannedPaths = new HashSet<>();
+    final long scanStart = System.nanoTime();
+
     ModLoadUtil.forEachMod((mods, mod) -> {
       final String modId = mod.getModId();
-      LogUtil.info("Scanning mod " + modId + " for static DMZ configurations.");
-
       final Path modPath = ModLoadUtil.getModPath(mods, modId);
-      if (modPath == null) {
+      if (modPath == null || !scannedPaths.add(modPath)) {
         return;
       }
 
+      final ModConfigManifest manifest = this.scanMod(modId, modPath);
+      if (manifest.isEmpty()) {
+        return;
+      }
+      LogUtil.info("Found {} DMZ configurations in mod {}.", manifest.size(), modId);
+
       // Process default configs for runtime handlers with defaults.
-      this.handlers(handler -> handler.getType() == ConfigType.RUNTIME && handler.hasDefault())
-          .forEach((IConfigHandler<?> handler) ->
-              this.fetchModFolder(handler, modPath, handler.getStaticDataDir(),
-                  RUNTIME_STATIC_CONFIG_DIR,
-                  this::processRuntimeHandlerDefaultFiles)
-          );
+      final List<ModConfigManifest.Entry> defaultEntries =
+          manifest.files(RUNTIME_STATIC_CONFIG_DIR);
+      defaultHandlers.forEach((IConfigHandler<?> handler) -> {
+        final long start = System.nanoTime();
+        this.processRuntimeHandlerDefaultFiles(handler, defaultEntries,
+            handler.getStaticDataDir());
+        this.timing(handler).scanNanos += System.nanoTime() - start;
+      });
       // Process static configs.
-      this.handlers(handler -> handler.getType() == ConfigType.STATIC)
-          .forEach((IConfigHandler<?> handler) ->
-              this.fetchModFolder(handler, modPath, handler.getDataDir(), STATIC_CONFIG_DIR,
-                  this::processStaticHandlerFiles)
-          );
+      final List<ModConfigManifest.Entry> staticEntries = manifest.files(STATIC_CONFIG_DIR);
+      staticHandlers.forEach((IConfigHandler<?> handler) -> {
+        final long start = System.nanoTime();
+        this.processStaticHandlerFiles(handler, staticEntries, handler.getDataDir());
+        this.timing(handler).scanNanos += System.nanoTime() - start;
+      });
     });
+    LogUtil.info("Scanned {} mod files for DMZ configurations in {} ms.", scannedPaths.size(),
+        toMillis(System.nanoTime() - scanStart));
   }
 
   /**
-   * Generic method to get a mod folder and process JSON files within.
+   * Opens a mod file once and indexes every configuration file under {@link #STATIC_CONFIG_DIR}.
    *
-   * @param handler      the configuration handler.
-   * @param modPath      the mod file system path.
-   * @param dataDir      the data directory inside the mod.
-   * @param baseDir      the base configuration directory (static or default).
-   * @param fileConsumer the consumer that processes each JSON file.
-   * @param <T>          the type of configuration object.
-   */
-  private <T> void fetchModFolder(IConfigHandler<T> handler, Path modPath, String dataDir,
-      String baseDir, FileProcessor<T> fileConsumer) {
-    if (!modPath.toString().endsWith("jar")) {
-      final Path folder = modPath.resolve(baseDir);
-      if (this.pathsToSkip.contains(folder.toString())) {
-        return;
-      }
-      if (Files.exists(folder) && Files.isDirectory(folder)) {
-        fileConsumer.process(handler, folder, dataDir);
-      } else {
-        if (!this.pathsToSkip.contains(folder.toString())) {
-          this.pathsToSkip.add(folder.toString());
-        }
-        LogUtil.error("Folder doesn't exist: " + folder);
-      }
-    } else {
-      try (FileSystem fileSystem = FileSystems.newFileSystem(modPath, new HashMap<>())) {
-        final Path folder = fileSystem.getPath(baseDir);
-        if (this.pathsToSkip.contains(folder.toString())) {
-          return;
-        }
-        if (Files.exists(folder) && Files.isDirectory(folder)) {
-          fileConsumer.process(handler, folder, dataDir);
-        } else {
-          if (!this.pathsToSkip.contains(folder.toString())) {
-            this.pathsToSkip.add(folder.toString());
-          }
-          LogUtil.error(
-              "Folder '%s' doesn't exist in JAR. This is normal on DEV ENV.".formatted(folder));
-        }
-      } catch (Exception exception) {
-        LogUtil.crash("Error processing JAR file: " + modPath, exception);
+   * @param modId   the identifier of the mod, used for logging.
+   * @param modPath the mod file system path.
+   * @return the manifest of the mod, empty if it has no DMZ configuration.
+   */
+  private ModConfigManifest scanMod(String modId, Path modPath) {
+    try {
+      final ModConfigManifest manifest = ModConfigManifest.scan(modPath, STATIC_CONFIG_DIR);
+      if (manifest.isEmpty() && Reference.MOD_ID.equals(modId)) {
+        LogUtil.error("Folder '%s' doesn't exist in '%s'. This is normal on DEV ENV."
+            .formatted(STATIC_CONFIG_DIR, modPath));
       }
+      return manifest;
+    } catch (Exception exception) {
+      LogUtil.crash("Error processing mod file: " + modPath, exception);
+      return ModConfigManifest.EMPTY;
     }
   }
 
-
   /**
    * Processes JSON files for runtime handler default configurations by copying them to the runtime
    * folder.
    *
    * @param handler the configuration handler.
-   * @param folder  the folder containing JSON files.
+   * @param entries the manifest entries of the default configuration folder.
    * @param dataDir the data directory identifier.
    * @param <T>     the type of configuration object.
    */
-  private <T> void processRuntimeHandlerDefaultFiles(IConfigHandler<T> handler, Path folder,
-      String dataDir) {
-    this.processJsonFiles(handler, folder, dataDir, (Path path) -> {
-      final String dataIdentifier = path.getFileName().toString()
-          .replace(JacksonUtil.FILE_EXTENSION, "");
+  private <T> void processRuntimeHandlerDefaultFiles(IConfigHandler<T> handler,
+      List<ModConfigManifest.Entry> entries, String dataDir) {
+    this.processJsonFiles(handler, entries, dataDir, (ModConfigManifest.Entry entry) -> {
+      final String dataIdentifier = entry.fileName().replace(JacksonUtil.FILE_EXTENSION, "");
       final String destinationPath = Paths.get(handler.getDataDir(),
           dataIdentifier + JacksonUtil.FILE_EXTENSION).toString();
 
-      if (Files.exists(Paths.get(destinationPath))) {
-        LogUtil.info(
-            "Skipping default config '" + path + "' as it already exists in '" + destinationPath
-                + "'");
-        return;
-      }
-
-      try (InputStream stream = Files.newInputStream(path)) {
-        JacksonUtil.copyStreamToFile(stream, destinationPath);
-        LogUtil.info("Copied default config '" + path + "' to '" + destinationPath + "'");
+      try {
+        if (JacksonUtil.copyBytesToFile(entry.content(), destinationPath)) {
+          LogUtil.info("Copied default config '{}' to '{}'", entry, destinationPath);
+        } else {
+          LogUtil.info("Skipping default config '{}' as it already exists in '{}'", entry,
+              destinationPath);
+        }
       } catch (IOException e) {
-        LogUtil.crash("Error copying default config '" + path + "'. " +
+        LogUtil.crash("Error copying default config '" + entry + "'. " +
             "Did you add the file on the assets folder?", e);
       }
     });
@@ -204,100 +241,309 @@ public final class ConfigManager {
    * duplicate loading for the main mod.
    *
    * @param handler the configuration handler.
-   * @param folder  the folder containing JSON files.
+   * @param entries the manifest entries of the static configuration folder.
    * @param dataDir the data directory identifier.
    * @param <T>     the type of configuration object.
    */
-  private <T> void processStaticHandlerFiles(IConfigHandler<T> handler, Path folder,
-      String dataDir) {
+  private <T> void processStaticHandlerFiles(IConfigHandler<T> handler,
+      List<ModConfigManifest.Entry> entries, String dataDir) {
     final List<String> visitedConfigs = new ArrayList<>();
-    this.processJsonFiles(handler, folder, dataDir, (Path path) -> {
-      final String dataIdentifier = path.getFileName().toString()
-          .replace(JacksonUtil.FILE_EXTENSION, "");
+    this.processJsonFiles(handler, entries, dataDir, (ModConfigManifest.Entry entry) -> {
+      final String dataIdentifier = entry.fileName().replace(JacksonUtil.FILE_EXTENSION, "");
       if (visitedConfigs.contains(dataIdentifier) && Reference.MOD_ID.equals(
           handler.identifier())) {
-        LogUtil.info("Skipping " + Reference.MOD_ID + " static config '" + dataIdentifier +
-            "' as it has already been loaded by another mod.");
+        LogUtil.info("Skipping {} static config '{}' as it has already been loaded by another "
+            + "mod.", Reference.MOD_ID, dataIdentifier);
         return;
       }
-      try (InputStream inputStream = Files.newInputStream(path)) {
+      try (InputStream inputStream = entry.openStream()) {
         JacksonUtil.loadJsonFromStream(handler.getClazz(), inputStream, (object) -> {
           visitedConfigs.add(dataIdentifier);
           handler.onLoaded(dataIdentifier, object);
         });
       } catch (IOException e) {
-        LogUtil.crash("Error loading static config: " + path, e);
+        LogUtil.crash("Error loading static config: " + entry, e);
       }
     });
   }
 
   /**
-   * Processes JSON configuration files in a folder using a provided file consumer.
+   * Processes the JSON configuration entries of a folder using a provided entry consumer.
    *
-   * @param handler      the configuration handler.
-   * @param folder       the folder containing JSON configuration files.
-   * @param dataDir      the data directory identifier.
-   * @param fileConsumer a consumer that processes each JSON file.
-   * @param <T>          the type of configuration object.
-   */
-  private <T> void processJsonFiles(IConfigHandler<T> handler, Path folder, String dataDir,
-      Consumer<Path> fileConsumer) {
-    try {
-      if (Files.exists(folder) && Files.isDirectory(folder)) {
-        try (var paths = Files.walk(folder, 1)) {
-          List<Path> jsonPaths = paths.filter(Files::isRegularFile)
-              .filter((Path path) -> path.toString().endsWith(JacksonUtil.FILE_EXTENSION))
-              .toList();
-          if (jsonPaths.isEmpty()) {
-            return;
-          }
-          if (dataDir.isEmpty()) {
-            jsonPaths = jsonPaths.stream()
-                .filter((Path path) -> path.toString().contains(handler.identifier()))
-                .toList();
-          }
-          jsonPaths.forEach(fileConsumer);
-        }
-      }
-    } catch (Exception exception) {
-      LogUtil.crash("Error processing folder: " + folder, exception);
+   * @param handler       the configuration handler.
+   * @param entries       the manifest entries of the folder.
+   * @param dataDir       the data directory identifier.
+   * @param entryConsumer a consumer that processes each JSON entry.
+   * @param <T>           the type of configuration object.
+   */
+  private <T> void processJsonFiles(IConfigHandler<T> handler,
+      List<ModConfigManifest.Entry> entries, String dataDir,
+      Consumer<ModConfigManifest.Entry> entryConsumer) {
+    if (entries.isEmpty()) {
+      return;
     }
+    if (dataDir.isEmpty()) {
+      entries.stream()
+          .filter((ModConfigManifest.Entry entry) -> entry.path().contains(handler.identifier()))
+          .forEach(entryConsumer);
+      return;
+    }
+    entries.forEach(entryConsumer);
   }
 
   /**
-   * Loads runtime configurations from the configuration folder.
+   * Loads runtime configurations from the configuration folder. Files are parsed either serially or
+   * on a fork-join pool depending on {@link #PARALLEL_LOADING}, but handlers always receive their
+   * data on the calling thread in {@link IConfigHandler#getPriority()} order.
    */
   private void loadRuntimeConfigs() {
     LogUtil.info("Scanning config folder for runtime DMZ configurations...");
-    this.handlers(handler -> handler.getType() == ConfigType.RUNTIME)
-        .forEach((IConfigHandler<?> handler) ->
-            JacksonUtil.getFilesInDirectory(handler.getDataDir(), JacksonUtil.FILE_EXTENSION)
-                .forEach((File file) -> this.processRuntimeFile(handler, file))
-        );
+    final List<IConfigHandler<?>> runtimeHandlers = this.handlers(ConfigType.RUNTIME);
+    RuntimeConfigCache.INSTANCE.load();
+    if (PARALLEL_LOADING) {
+      this.loadRuntimeConfigsParallel(runtimeHandlers);
+    } else {
+      runtimeHandlers.forEach(this::processRuntimeFiles);
+    }
+    RuntimeConfigCache.INSTANCE.logStatistics();
+    RuntimeConfigCache.INSTANCE.save();
+  }
+
+  /**
+   * Parses every runtime configuration file on a dedicated fork-join pool, then delivers the
+   * results to each handler in priority order.
+   *
+   * @param runtimeHandlers the runtime handlers, already sorted by priority.
+   */
+  private void loadRuntimeConfigsParallel(List<IConfigHandler<?>> runtimeHandlers) {
+    final ForkJoinPool pool = new ForkJoinPool(Math.max(1,
+        Runtime.getRuntime().availableProcessors() - 1), this::createLoaderThread, null, false);
+    try {
+      final List<PendingRuntimeLoad<?>> pending = new ArrayList<>();
+      runtimeHandlers.forEach((IConfigHandler<?> handler) ->
+          pending.add(this.submitRuntimeFiles(pool, handler)));
+      pending.forEach(PendingRuntimeLoad::apply);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Submits a parsing task for each runtime file of the given handler.
+   *
+   * @param pool    the pool to submit the tasks to.
+   * @param handler the configuration handler.
+   * @param <T>     the type of configuration object.
+   * @return the pending load holding the submitted tasks.
+   */
+  private <T> PendingRuntimeLoad<T> submitRuntimeFiles(ForkJoinPool pool,
+      IConfigHandler<T> handler) {
+    final LoadTiming timing = this.timing(handler);
+    final List<File> files = this.runtimeFiles(handler);
+    final List<ForkJoinTask<T>> tasks = new ArrayList<>(files.size());
+    for (File file : files) {
+      tasks.add(pool.submit(() -> {
+        final long start = System.nanoTime();
+        final T data = this.parseRuntimeFile(handler, file);
+        timing.parseNanos.add(System.nanoTime() - start);
+        return data;
+      }));
+    }
+    return new PendingRuntimeLoad<>(handler, files, tasks, timing);
+  }
+
+  /**
+   * Creates a worker thread for the parallel loading pool, keeping the mod class loader as context
+   * class loader so Jackson resolves mod classes the same way it does on the loading thread.
+   *
+   * @param pool the pool the thread belongs to.
+   * @return the new worker thread.
+   */
+  private ForkJoinWorkerThread createLoaderThread(ForkJoinPool pool) {
+    final ForkJoinWorkerThread thread =
+        ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+    thread.setName("DMZ Config Loader #" + thread.getPoolIndex());
+    thread.setContextClassLoader(ConfigManager.class.getClassLoader());
+    return thread;
+  }
+
+  /**
+   * Lists the runtime configuration files of a handler, sorted by name so loading order does not
+   * depend on the file system.
+   *
+   * @param handler the configuration handler.
+   * @return the sorted list of files.
+   */
+  private List<File> runtimeFiles(IConfigHandler<?> handler) {
+    final List<File> files = new ArrayList<>(
+        JacksonUtil.getFilesInDirectory(handler.getDataDir(), JacksonUtil.FILE_EXTENSION));
+    files.sort(Comparator.comparing(File::getName));
+    return files;
+  }
+
+  /**
+   * Parses every runtime configuration file of a handler on the calling thread, then hands them
+   * over to the handler as a single batch.
+   *
+   * @param handler the configuration handler.
+   * @param <T>     the type of configuration object.
+   */
+  private <T> void processRuntimeFiles(IConfigHandler<T> handler) {
+    final LoadTiming timing = this.timing(handler);
+    final List<File> files = this.runtimeFiles(handler);
+    final Map<String, T> batch = Maps.newLinkedHashMapWithExpectedSize(files.size());
+    for (File file : files) {
+      final long start = System.nanoTime();
+      final T data = this.parseRuntimeFile(handler, file);
+      timing.parseNanos.add(System.nanoTime() - start);
+      this.addToBatch(batch, file, data);
+      timing.files++;
+    }
+    this.applyRuntimeFiles(handler, batch, timing);
   }
 
   /**
-   * Processes a single runtime configuration file.
+   * Parses a single runtime configuration file, going through the {@link RuntimeConfigCache} so
+   * unchanged files are not parsed again. Safe to call from any thread.
    *
    * @param handler the configuration handler.
    * @param file    the configuration file.
    * @param <T>     the type of configuration object.
+   * @return the parsed configuration object.
+   */
+  private <T> T parseRuntimeFile(IConfigHandler<T> handler, File file) {
+    return RuntimeConfigCache.INSTANCE.read(handler, file);
+  }
+
+  /**
+   * Adds a parsed runtime configuration to the batch of its handler, keyed by the file name without
+   * extension.
+   *
+   * @param batch the batch of the handler.
+   * @param file  the configuration file the data was read from.
+   * @param data  the parsed configuration object.
+   * @param <T>   the type of configuration object.
+   */
+  private <T> void addToBatch(Map<String, T> batch, File file, T data) {
+    final String identifier = file.getName().replaceFirst("[.][^.]+$", "");
+    batch.put(identifier, data);
+    LogUtil.debug("Loaded runtime config '{}' from file '{}'", identifier, file.getAbsolutePath());
+  }
+
+  /**
+   * Hands every parsed runtime configuration of a handler over to it at once. The amount of files
+   * is reported by {@link #reportTimings(long)}.
+   *
+   * @param handler the configuration handler.
+   * @param batch   the parsed configuration objects by identifier, in file order.
+   * @param timing  the timing entry of the handler.
+   * @param <T>     the type of configuration object.
+   */
+  private <T> void applyRuntimeFiles(IConfigHandler<T> handler, Map<String, T> batch,
+      LoadTiming timing) {
+    final long applyStart = System.nanoTime();
+    handler.onLoadedAll(batch);
+    timing.applyNanos += System.nanoTime() - applyStart;
+  }
+
+  /**
+   * Parses a changed runtime configuration file again and hands it over to every runtime handler
+   * reading from its folder. Parsing happens on the calling thread, while the handlers are notified
+   * through the given executor. A file that no longer exists is reported as removed. The
+   * {@link RuntimeConfigCache} is saved afterwards, so the new content is restored on the next
+   * start.
+   *
+   * @param file     the changed configuration file.
+   * @param executor the executor handlers are notified on, usually the server thread.
+   */
+  public void reloadRuntimeFile(File file, Executor executor) {
+    final File folder = file.getAbsoluteFile().getParentFile();
+    for (IConfigHandler<?> handler : this.handlers(ConfigType.RUNTIME)) {
+      if (new File(handler.getDataDir()).getAbsoluteFile().equals(folder)) {
+        this.reloadRuntimeFile(handler, file, executor);
+      }
+    }
+    RuntimeConfigCache.INSTANCE.save();
+  }
+
+  /**
+   * Parses a changed runtime configuration file again for a single handler. Errors are logged
+   * instead of crashing, since a half-edited file is expected while an operator is typing.
+   *
+   * @param handler  the configuration handler.
+   * @param file     the changed configuration file.
+   * @param executor the executor the handler is notified on.
+   * @param <T>      the type of configuration object.
    */
-  private <T> void processRuntimeFile(IConfigHandler<T> handler, File file) {
+  private <T> void reloadRuntimeFile(IConfigHandler<T> handler, File file, Executor executor) {
     final String identifier = file.getName().replaceFirst("[.][^.]+$", "");
-    JacksonUtil.loadJsonFromFile(handler.getClazz(), file, (object) -> {
-      handler.onLoaded(identifier, object);
-      LogUtil.info(
-          "Loaded runtime config '" + identifier + "' from file '" + file.getAbsolutePath() + "'");
+    if (!file.isFile()) {
+      RuntimeConfigCache.INSTANCE.remove(handler, file);
+      executor.execute(() -> {
+        handler.onRemoved(identifier);
+        LogUtil.info("Removed runtime config '{}' from handler '{}'", identifier,
+            handler.identifier());
+      });
+      return;
+    }
+
+    final T data;
+    try {
+      data = this.parseRuntimeFile(handler, file);
+    } catch (RuntimeException e) {
+      LogUtil.error("Could not reload runtime config '{}' for handler '{}': {}",
+          file.getAbsolutePath(), handler.identifier(), e.getMessage());
+      return;
+    }
+    executor.execute(() -> {
+      handler.onReloaded(identifier, data);
+      LogUtil.info("Reloaded runtime config '{}' from file '{}'", identifier,
+          file.getAbsolutePath());
     });
   }
 
   /**
-   * Saves runtime configuration data to a file.
+   * Retrieves, or creates, the loading timing entry of a handler.
+   *
+   * @param handler the configuration handler.
+   * @return the timing entry.
+   */
+  private LoadTiming timing(IConfigHandler<?> handler) {
+    return this.loadTimings.computeIfAbsent(handler.identifier(), key -> new LoadTiming());
+  }
+
+  /**
+   * Logs the loading timings of every handler and clears them.
+   *
+   * @param totalNanos the total time spent initializing.
+   */
+  private void reportTimings(long totalNanos) {
+    LogUtil.info("DMZ configurations loaded in {} ms ({} mode).", toMillis(totalNanos),
+        PARALLEL_LOADING ? "parallel" : "serial");
+    this.loadTimings.forEach((identifier, timing) ->
+        LogUtil.info("  - Handler '{}': {} files, scan {} ms, parse {} ms, apply {} ms", identifier,
+            timing.files, toMillis(timing.scanNanos), toMillis(timing.parseNanos.sum()),
+            toMillis(timing.applyNanos)));
+    this.loadTimings.clear();
+  }
+
+  /**
+   * Converts nanoseconds to milliseconds for the timing report.
+   *
+   * @param nanos the nanoseconds.
+   * @return the milliseconds.
+   */
+  private static long toMillis(long nanos) {
+    return TimeUnit.NANOSECONDS.toMillis(nanos);
+  }
+
+  /**
+   * Saves runtime configuration data to a file. The file is written asynchronously by the
+   * {@link RuntimeConfigWriter}, so the data must not be modified afterwards.
    *
    * @param handlerID  the identifier of the configuration handler.
    * @param identifier the identifier for the configuration data.
-   * @param data       the data to save.
+   * @param data       the data to save, never null. Use {@link #deleteRuntime} to delete a file.
    * @param log        whether to log the save operation.
    * @param <T>        the type of configuration object.
    */
@@ -313,16 +559,7 @@ public final class ConfigManager {
           + identifier);
       return;
     }
-    try {
-      final String dataDir = handler.getDataDir();
-      JacksonUtil.saveJson(data, dataDir, identifier);
-      if (log) {
-        LogUtil.info("Saved data for {} in {}!", identifier, dataDir);
-      }
-    } catch (IOException e) {
-      LogUtil.error("Could not save data for {}!", identifier);
-      e.printStackTrace(System.out);
-    }
+    RuntimeConfigWriter.INSTANCE.save(handler.getDataDir(), identifier, data, log);
   }
 
   /**
@@ -338,7 +575,8 @@ public final class ConfigManager {
   }
 
   /**
-   * Deletes runtime configuration data from a file.
+   * Deletes runtime configuration data from a file. The file is deleted asynchronously by the
+   * {@link RuntimeConfigWriter}, after any save of the same file queued before.
    *
    * @param handlerID  the identifier of the configuration handler.
    * @param identifier the identifier for the configuration data to delete.
@@ -356,15 +594,7 @@ public final class ConfigManager {
           + identifier);
       return;
     }
-    final String dataDir = handler.getDataDir();
-    if (log) {
-      final boolean result = JacksonUtil.deleteJson(dataDir, identifier);
-      if (!result) {
-        LogUtil.error("Could not delete data for {} in {}!", identifier, dataDir);
-      } else {
-        LogUtil.info("Deleted data for {} in {}!", identifier, dataDir);
-      }
-    }
+    RuntimeConfigWriter.INSTANCE.delete(handler.getDataDir(), identifier, log);
   }
 
   /**
@@ -373,15 +603,34 @@ public final class ConfigManager {
   private void fireDispatcher() {
     MinecraftForge.EVENT_BUS.start();
     MinecraftForge.EVENT_BUS.post(new RegisterConfigHandlerEvent(this));
+    this.freeze();
+  }
+
+  /**
+   * Builds the side-filtered, priority-sorted handler indexes. Called once every handler has been
+   * registered, so lookups no longer need to filter, sort or query the current side.
+   */
+  private void freeze() {
+    this.sortedHandlers = List.copyOf(this.collectHandlers(handler -> true));
+    this.sidedHandlers.clear();
+    this.sidedHandlersByType.clear();
+    for (ConfigType type : ConfigType.values()) {
+      this.sidedHandlersByType.put(type, this.sortedHandlers.stream()
+          .filter(handler -> handler.getType() == type)
+          .toList());
+    }
+    this.sortedHandlers.forEach(handler -> this.sidedHandlers.put(handler.identifier(), handler));
+    this.frozen = true;
   }
 
   /**
-   * Returns a list of configuration handlers filtered by a given predicate.
+   * Collects the registered handlers of the current side matching a given predicate. Only used
+   * until the handlers are frozen, lookups are served from the precomputed indexes afterwards.
    *
    * @param predicate the filter condition.
    * @return a sorted list of configuration handlers.
    */
-  public List<IConfigHandler<?>> handlers(Predicate<IConfigHandler<?>> predicate) {
+  private List<IConfigHandler<?>> collectHandlers(Predicate<IConfigHandler<?>> predicate) {
     final List<IConfigHandler<?>> list = new ArrayList<>(this.handlers.values().stream()
         .filter(predicate)
         .filter(IConfigHandler::isCorrectSide)
@@ -390,6 +639,20 @@ public final class ConfigManager {
     return list;
   }
 
+  /**
+   * Returns the configuration handlers of a given type. Once handlers have been registered this is
+   * a precomputed list, so no allocation happens.
+   *
+   * @param type the configuration type.
+   * @return an unmodifiable list of configuration handlers sorted by priority.
+   */
+  public List<IConfigHandler<?>> handlers(ConfigType type) {
+    if (this.frozen) {
+      return this.sidedHandlersByType.get(type);
+    }
+    return this.collectHandlers(handler -> handler.getType() == type);
+  }
+
   /**
    * Retrieves a configuration handler by its identifier.
    *
@@ -397,18 +660,56 @@ public final class ConfigManager {
    * @return the corresponding configuration handler or null if not found.
    */
   public IConfigHandler<?> handler(String identifier) {
-    return this.handlers(handler -> handler.identifier().equals(identifier))
+    if (this.frozen) {
+      return this.sidedHandlers.get(identifier);
+    }
+    return this.collectHandlers(handler -> handler.identifier().equals(identifier))
         .stream().findFirst().orElse(null);
   }
 
   /**
-   * Functional interface for processing JSON configuration files.
+   * Accumulated loading times of a single handler. Only {@link #parseNanos} is written from the
+   * loader threads, the rest is updated on the loading thread.
+   */
+  private static final class LoadTiming {
+
+    private final LongAdder parseNanos = new LongAdder();
+    private long scanNanos;
+    private long applyNanos;
+    private int files;
+  }
+
+  /**
+   * Runtime files of a handler whose parsing has been submitted but not yet delivered.
    *
    * @param <T> the type of configuration object.
    */
-  @FunctionalInterface
-  private interface FileProcessor<T> {
+  private final class PendingRuntimeLoad<T> {
 
-    void process(IConfigHandler<T> handler, Path folder, String dataDir);
+    private final IConfigHandler<T> handler;
+    private final List<File> files;
+    private final List<ForkJoinTask<T>> tasks;
+    private final LoadTiming timing;
+
+    private PendingRuntimeLoad(IConfigHandler<T> handler, List<File> files,
+        List<ForkJoinTask<T>> tasks, LoadTiming timing) {
+      this.handler = handler;
+      this.files = files;
+      this.tasks = tasks;
+      this.timing = timing;
+    }
+
+    /**
+     * Waits for every parsing task, in file order, and hands the results to the handler as a
+     * single batch.
+     */
+    private void apply() {
+      final Map<String, T> batch = Maps.newLinkedHashMapWithExpectedSize(this.tasks.size());
+      for (int i = 0; i < this.tasks.size(); i++) {
+        ConfigManager.this.addToBatch(batch, this.files.get(i), this.tasks.get(i).join());
+        this.timing.files++;
+      }
+      ConfigManager.this.applyRuntimeFiles(this.handler, batch, this.timing);
+    }
   }
 }
@@ -0,0 +1,377 @@
+package com.dragonminez.mod.core.common.config;
+
+import com.dragonminez.mod.common.Reference;
+import com.dragonminez.mod.common.util.LogUtil;
+import com.dragonminez.mod.core.common.config.model.IConfigHandler;
+import com.dragonminez.mod.core.common.config.util.JacksonUtil;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+import net.minecraftforge.fml.loading.FMLPaths;
+
+/**
+ * On-disk cache of already deserialized runtime configurations.
+ * <p>
+ * Every entry is keyed by handler and file path, and validated against the file size, its last
+ * modification time and a checksum of its content, and against a fingerprint of the fields of the
+ * configuration class, so changing the class invalidates its entries even if the mod version stays
+ * the same. Unchanged files are restored from the compact binary form stored in the cache instead
+ * of being parsed as JSON5 again, while changed files are parsed and only their own entry is
+ * replaced.
+ * </p>
+ * <p>
+ * The cache is written after the configurations are loaded at startup, and again after every hot
+ * reload so reloaded files are not parsed again on the next start.
+ * </p>
+ * <p>
+ * The cache can be disabled with the {@code -Ddragonminez.config.cache=false} JVM argument.
+ * </p>
+ */
+public final class RuntimeConfigCache {
+
+  /**
+   * Singleton instance of RuntimeConfigCache.
+   */
+  public static final RuntimeConfigCache INSTANCE = new RuntimeConfigCache();
+
+  /**
+   * Whether the cache is enabled.
+   */
+  private static final boolean ENABLED =
+      !"false".equalsIgnoreCase(System.getProperty("dragonminez.config.cache"));
+
+  /**
+   * Magic number written at the start of the cache file ("DMZC").
+   */
+  private static final int MAGIC = 0x444D5A43;
+
+  /**
+   * Version of the cache file layout. Bump it whenever the layout changes.
+   */
+  private static final int FORMAT_VERSION = 2;
+
+  /**
+   * Entries read from the cache file, by key.
+   */
+  private final Map<String, Entry> storedEntries = new ConcurrentHashMap<>();
+
+  /**
+   * Entries used during this session, by key. Only these are written back to disk.
+   */
+  private final Map<String, Entry> usedEntries = new ConcurrentHashMap<>();
+
+  /**
+   * Fingerprint of the fields of each configuration class, computed once per class.
+   */
+  private final Map<Class<?>, Long> schemaFingerprints = new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private volatile boolean dirty;
+
+  /**
+   * Private constructor to enforce singleton pattern.
+   */
+  private RuntimeConfigCache() {
+  }
+
+  /**
+   * Reads the cache file, discarding it if it belongs to another mod version or is corrupted.
+   */
+  public void load() {
+    this.storedEntries.clear();
+    this.usedEntries.clear();
+    this.hits.reset();
+    this.misses.reset();
+    this.dirty = false;
+
+    final Path path = this.cacheFile();
+    if (!ENABLED || !Files.isRegularFile(path)) {
+      return;
+    }
+    try (DataInputStream input = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(path)))) {
+      if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION
+          || !Reference.VERSION.equals(input.readUTF())) {
+        LogUtil.info("Discarding runtime config cache from another DMZ version.");
+        return;
+      }
+      final int count = input.readInt();
+      for (int i = 0; i < count; i++) {
+        final Entry entry = Entry.read(input);
+        this.storedEntries.put(entry.key, entry);
+      }
+    } catch (IOException e) {
+      LogUtil.warn("Could not read runtime config cache '{}', it will be rebuilt.", path, e);
+      this.storedEntries.clear();
+    }
+  }
+
+  /**
+   * Reads a runtime configuration file, restoring it from the cache if it did not change since it
+   * was cached. Safe to call from any thread.
+   *
+   * @param handler the configuration handler.
+   * @param file    the configuration file.
+   * @param <T>     the type of configuration object.
+   * @return the configuration object.
+   * @throws RuntimeException if the file cannot be read or parsed.
+   */
+  public <T> T read(IConfigHandler<T> handler, File file) {
+    if (!ENABLED) {
+      return JacksonUtil.readJsonFromFile(handler.getClazz(), file);
+    }
+
+    final Path path = file.toPath().toAbsolutePath();
+    final byte[] content;
+    final long lastModified;
+    try {
+      content = Files.readAllBytes(path);
+      lastModified = Files.getLastModifiedTime(path).toMillis();
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to load JSON5 data from file", e);
+    }
+    final String key = key(handler, path);
+    final String className = handler.getClazz().getName();
+    final long schema = this.schemaFingerprint(handler.getClazz());
+    final long checksum = checksum(content);
+
+    final Entry cached = this.storedEntries.get(key);
+    if (cached != null
+        && cached.matches(className, schema, content.length, lastModified, checksum)) {
+      try {
+        final T data = JacksonUtil.readBinary(handler.getClazz(), cached.payload);
+        this.usedEntries.put(key, cached);
+        this.hits.increment();
+        return data;
+      } catch (IOException e) {
+        LogUtil.warn("Cached runtime config '{}' is no longer valid, parsing it again.", path,
+            e);
+      }
+    }
+
+    final T data = JacksonUtil.readJsonFromBytes(handler.getClazz(), content);
+    this.misses.increment();
+    try {
+      this.usedEntries.put(key, new Entry(key, className, schema, content.length, lastModified,
+          checksum, JacksonUtil.writeBinary(data)));
+      this.dirty = true;
+    } catch (IOException e) {
+      LogUtil.warn("Could not cache runtime config '{}'.", path, e);
+    }
+    return data;
+  }
+
+  /**
+   * Forgets the cached copy of a runtime configuration file that was removed, so it is dropped from
+   * the cache file on the next {@link #save()}.
+   *
+   * @param handler the configuration handler.
+   * @param file    the removed configuration file.
+   */
+  public void remove(IConfigHandler<?> handler, File file) {
+    if (ENABLED
+        && this.usedEntries.remove(key(handler, file.toPath().toAbsolutePath())) != null) {
+      this.dirty = true;
+    }
+  }
+
+  /**
+   * Logs how many configurations were restored from the cache and how many had to be parsed.
+   */
+  public void logStatistics() {
+    if (ENABLED) {
+      LogUtil.info("Runtime config cache: {} restored, {} parsed.", this.hits.sum(),
+          this.misses.sum());
+    }
+  }
+
+  /**
+   * Writes the entries used during this session back to disk. Entries of files that were not read
+   * during this session, or were {@link #remove removed} since, are dropped. Nothing is written if
+   * the cache did not change. Called on the
+   * loading thread at startup and on the config watcher thread after hot reloads.
+   */
+  public synchronized void save() {
+    if (!ENABLED) {
+      return;
+    }
+    if (!this.dirty && this.usedEntries.size() == this.storedEntries.size()) {
+      return;
+    }
+
+    final Path path = this.cacheFile();
+    try {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (DataOutputStream output = new DataOutputStream(bytes)) {
+        output.writeInt(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+        output.writeUTF(Reference.VERSION);
+        output.writeInt(this.usedEntries.size());
+        for (Entry entry : this.usedEntries.values()) {
+          entry.write(output);
+        }
+      }
+      JacksonUtil.writeAtomically(path, bytes.toByteArray());
+      this.storedEntries.clear();
+      this.storedEntries.putAll(this.usedEntries);
+      this.dirty = false;
+    } catch (IOException e) {
+      LogUtil.warn("Could not write runtime config cache '{}'.", path, e);
+    }
+  }
+
+  /**
+   * Builds the key of the cache entry of a configuration file.
+   *
+   * @param handler the configuration handler.
+   * @param path    the absolute path of the configuration file.
+   * @return the key of the entry.
+   */
+  private static String key(IConfigHandler<?> handler, Path path) {
+    return handler.identifier() + '|' + path;
+  }
+
+  /**
+   * @return the location of the cache file.
+   */
+  private Path cacheFile() {
+    return FMLPaths.GAMEDIR.get().resolve(".cache").resolve(Reference.MOD_ID)
+        .resolve("runtime_configs.bin");
+  }
+
+  /**
+   * Gets the fingerprint of the fields of a configuration class, see
+   * {@link #computeSchemaFingerprint(Class)}.
+   *
+   * @param clazz the configuration class.
+   * @return the fingerprint of the class.
+   */
+  private long schemaFingerprint(Class<?> clazz) {
+    return this.schemaFingerprints.computeIfAbsent(clazz,
+        RuntimeConfigCache::computeSchemaFingerprint);
+  }
+
+  /**
+   * Computes a fingerprint of the instance fields of a class and its superclasses, their names and
+   * generic types, following the types declared outside the JDK so changes to nested configuration
+   * classes are detected too.
+   *
+   * @param clazz the configuration class.
+   * @return the fingerprint of the class.
+   */
+  private static long computeSchemaFingerprint(Class<?> clazz) {
+    final StringBuilder schema = new StringBuilder();
+    appendSchema(clazz, schema, new HashSet<>());
+    final CRC32C crc = new CRC32C();
+    crc.update(schema.toString().getBytes(StandardCharsets.UTF_8));
+    return crc.getValue();
+  }
+
+  private static void appendSchema(Class<?> clazz, StringBuilder schema, Set<Class<?>> visited) {
+    if (clazz.isArray()) {
+      appendSchema(clazz.getComponentType(), schema, visited);
+      return;
+    }
+    if (clazz.isPrimitive() || clazz.getClassLoader() == null || !visited.add(clazz)) {
+      return;
+    }
+    schema.append(clazz.getName()).append('{');
+    for (Class<?> current = clazz; current != null && current != Object.class;
+        current = current.getSuperclass()) {
+      final Field[] fields = current.getDeclaredFields();
+      Arrays.sort(fields, Comparator.comparing(Field::getName));
+      for (Field field : fields) {
+        if (Modifier.isStatic(field.getModifiers())) {
+          continue;
+        }
+        schema.append(field.getName()).append(':').append(field.getGenericType().getTypeName())
+            .append(';');
+        appendSchema(field.getType(), schema, visited);
+      }
+    }
+    schema.append('}');
+  }
+
+  /**
+   * Computes the checksum used to detect content changes.
+   *
+   * @param content the file content.
+   * @return the checksum of the content.
+   */
+  private static long checksum(byte[] content) {
+    final CRC32C crc = new CRC32C();
+    crc.update(content, 0, content.length);
+    return crc.getValue();
+  }
+
+  /**
+   * A single cached configuration object.
+   */
+  private static final class Entry {
+
+    private final String key;
+    private final String className;
+    private final long schema;
+    private final long size;
+    private final long lastModified;
+    private final long checksum;
+    private final byte[] payload;
+
+    private Entry(String key, String className, long schema, long size, long lastModified,
+        long checksum, byte[] payload) {
+      this.key = key;
+      this.className = className;
+      this.schema = schema;
+      this.size = size;
+      this.lastModified = lastModified;
+      this.checksum = checksum;
+      this.payload = payload;
+    }
+
+    private boolean matches(String className, long schema, long size, long lastModified,
+        long checksum) {
+      return this.size == size && this.lastModified == lastModified && this.checksum == checksum
+          && this.schema == schema && this.className.equals(className);
+    }
+
+    private void write(DataOutputStream output) throws IOException {
+      output.writeUTF(this.key);
+      output.writeUTF(this.className);
+      output.writeLong(this.schema);
+      output.writeLong(this.size);
+      output.writeLong(this.lastModified);
+      output.writeLong(this.checksum);
+      output.writeInt(this.payload.length);
+      output.write(this.payload);
+    }
+
+    private static Entry read(DataInputStream input) throws IOException {
+      final String key = input.readUTF();
+      final String className = input.readUTF();
+      final long schema = input.readLong();
+      final long size = input.readLong();
+      final long lastModified = input.readLong();
+      final long checksum = input.readLong();
+      final byte[] payload = new byte[input.readInt()];
+      input.readFully(payload);
+      return new Entry(key, className, schema, size, lastModified, checksum, payload);
+    }
+  }
+}
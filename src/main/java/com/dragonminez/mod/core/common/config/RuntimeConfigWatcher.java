@@ -0,0 +1,183 @@
+package com.dragonminez.mod.core.common.config;
+
+import com.dragonminez.mod.common.util.LogUtil;
+import com.dragonminez.mod.core.common.config.model.ConfigType;
+import com.dragonminez.mod.core.common.config.model.IConfigHandler;
+import com.dragonminez.mod.core.common.config.util.JacksonUtil;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the data directories of runtime configuration handlers and reloads files as soon as they
+ * change on disk, so operators can tune values without restarting.
+ * <p>
+ * Changes are debounced per file, parsed again on the watcher thread and then applied through
+ * {@link ConfigManager#reloadRuntimeFile} on the given executor, usually the server thread. Only the
+ * touched file is reloaded.
+ * </p>
+ * <p>
+ * Hot reload is opt-in, enabled with the {@code -Ddragonminez.config.hotReload=true} JVM argument.
+ * </p>
+ */
+public final class RuntimeConfigWatcher {
+
+  /**
+   * Singleton instance of RuntimeConfigWatcher.
+   */
+  public static final RuntimeConfigWatcher INSTANCE = new RuntimeConfigWatcher();
+
+  /**
+   * Whether hot reload is enabled.
+   */
+  private static final boolean ENABLED = Boolean.getBoolean("dragonminez.config.hotReload");
+
+  /**
+   * Time a file must stay untouched before it is reloaded. Editors usually write a file in several
+   * steps, so reloading on the first event would read it half-written.
+   */
+  private static final long DEBOUNCE_MILLIS = 500L;
+
+  private final Map<WatchKey, Path> watchedFolders = new HashMap<>();
+  private WatchService watchService;
+  private Thread thread;
+  private Executor executor;
+
+  /**
+   * Private constructor to enforce singleton pattern.
+   */
+  private RuntimeConfigWatcher() {
+  }
+
+  /**
+   * Starts watching the data directories of every runtime handler, if hot reload is enabled.
+   *
+   * @param executor the executor handlers are notified on.
+   */
+  public synchronized void start(Executor executor) {
+    if (!ENABLED || this.thread != null) {
+      return;
+    }
+    try {
+      this.watchService = FileSystems.getDefault().newWatchService();
+      for (IConfigHandler<?> handler : ConfigManager.INSTANCE.handlers(ConfigType.RUNTIME)) {
+        final Path folder = Paths.get(handler.getDataDir()).toAbsolutePath();
+        if (!Files.isDirectory(folder) || this.watchedFolders.containsValue(folder)) {
+          continue;
+        }
+        this.watchedFolders.put(folder.register(this.watchService,
+            StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+            StandardWatchEventKinds.ENTRY_DELETE), folder);
+      }
+    } catch (IOException e) {
+      LogUtil.error("Could not start the runtime config watcher: {}", e.getMessage());
+      this.stop();
+      return;
+    }
+
+    this.executor = executor;
+    this.thread = new Thread(this::run, "DMZ Config Watcher");
+    this.thread.setDaemon(true);
+    this.thread.start();
+    LogUtil.info("Watching {} runtime config folders for changes.", this.watchedFolders.size());
+  }
+
+  /**
+   * Stops watching, discarding any change that has not been reloaded yet.
+   */
+  public synchronized void stop() {
+    if (this.watchService != null) {
+      try {
+        this.watchService.close();
+      } catch (IOException e) {
+        LogUtil.error("Could not close the runtime config watcher: {}", e.getMessage());
+      }
+    }
+    if (this.thread != null) {
+      this.thread.interrupt();
+    }
+    this.watchedFolders.clear();
+    this.watchService = null;
+    this.thread = null;
+    this.executor = null;
+  }
+
+  /**
+   * Main loop of the watcher thread.
+   */
+  private void run() {
+    final WatchService service = this.watchService;
+    final Executor target = this.executor;
+    final Map<Path, Long> pending = new LinkedHashMap<>();
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        final WatchKey key = pending.isEmpty() ? service.take()
+            : service.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+        if (key != null) {
+          this.collect(key, pending);
+        }
+        this.reloadSettled(pending, target);
+      }
+    } catch (InterruptedException | ClosedWatchServiceException ignored) {
+      // Stopped.
+    }
+  }
+
+  /**
+   * Collects the JSON5 files touched by the events of a watch key, postponing their reload.
+   *
+   * @param key     the signalled watch key.
+   * @param pending the files waiting to be reloaded, with the time they settle at.
+   */
+  private void collect(WatchKey key, Map<Path, Long> pending) {
+    final Path folder;
+    synchronized (this) {
+      folder = this.watchedFolders.get(key);
+    }
+    final long settleAt = System.currentTimeMillis() + DEBOUNCE_MILLIS;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (folder == null || event.kind() == StandardWatchEventKinds.OVERFLOW) {
+        continue;
+      }
+      final Path file = folder.resolve((Path) event.context());
+      if (file.toString().endsWith(JacksonUtil.FILE_EXTENSION)) {
+        pending.remove(file);
+        pending.put(file, settleAt);
+      }
+    }
+    key.reset();
+  }
+
+  /**
+   * Reloads every pending file that has not been touched during the debounce window.
+   *
+   * @param pending the files waiting to be reloaded, with the time they settle at.
+   * @param target  the executor handlers are notified on.
+   */
+  private void reloadSettled(Map<Path, Long> pending, Executor target) {
+    final long now = System.currentTimeMillis();
+    final Iterator<Map.Entry<Path, Long>> iterator = pending.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<Path, Long> entry = iterator.next();
+      if (entry.getValue() > now) {
+        // Entries are kept in touch order, so the rest settle later.
+        return;
+      }
+      iterator.remove();
+      ConfigManager.INSTANCE.reloadRuntimeFile(entry.getKey().toFile(), target);
+    }
+  }
+}
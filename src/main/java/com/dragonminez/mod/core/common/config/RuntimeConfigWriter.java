@@ -0,0 +1,199 @@
+package com.dragonminez.mod.core.common.config;
+
+import com.dragonminez.mod.common.util.LogUtil;
+import com.dragonminez.mod.core.common.config.util.JacksonUtil;
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind queue for runtime configuration files.
+ * <p>
+ * Saves and deletions are written from a single dedicated I/O thread, so the calling thread (often
+ * the server thread) never waits on the disk. Repeated operations on the same file coalesce: only
+ * the latest value queued before the write starts reaches the disk. Files are written atomically
+ * through a temporary file. {@link #flush()} must be called before the game stops, which is done
+ * when a server stops and when the client shuts down. Flushing also stops the I/O thread, which is
+ * started again by the next queued operation.
+ * </p>
+ * <p>
+ * Saved objects are serialized on the I/O thread, so callers must not modify them after handing
+ * them over.
+ * </p>
+ */
+public final class RuntimeConfigWriter {
+
+  /**
+   * Singleton instance of RuntimeConfigWriter.
+   */
+  public static final RuntimeConfigWriter INSTANCE = new RuntimeConfigWriter();
+
+  /**
+   * Maximum time {@link #flush()} waits for pending writes, in seconds.
+   */
+  private static final long FLUSH_TIMEOUT_SECONDS = 30L;
+
+  /**
+   * Latest pending operation per target file.
+   */
+  private final Map<File, PendingWrite> pending = new ConcurrentHashMap<>();
+
+  /**
+   * Executor running the writes, null when stopped.
+   */
+  private ExecutorService executor;
+
+  /**
+   * Private constructor to enforce singleton pattern.
+   */
+  private RuntimeConfigWriter() {
+  }
+
+  /**
+   * Queues an object to be saved as a JSON5 file.
+   *
+   * @param dataDir    the directory of the file.
+   * @param identifier the name of the file, without extension.
+   * @param data       the object to save, never null.
+   * @param log        whether to log once the file has been written.
+   * @throws NullPointerException if the data is null, use {@link #delete} to delete a file.
+   */
+  public void save(String dataDir, String identifier, Object data, boolean log) {
+    Objects.requireNonNull(data, "Cannot save null runtime config " + identifier);
+    this.enqueue(new PendingWrite(Operation.SAVE, dataDir, identifier, data, log));
+  }
+
+  /**
+   * Queues a JSON5 file to be deleted, discarding any save of the same file still pending.
+   *
+   * @param dataDir    the directory of the file.
+   * @param identifier the name of the file, without extension.
+   * @param log        whether to log once the file has been deleted.
+   */
+  public void delete(String dataDir, String identifier, boolean log) {
+    this.enqueue(new PendingWrite(Operation.DELETE, dataDir, identifier, null, log));
+  }
+
+  /**
+   * Blocks until every operation queued so far has reached the disk, then stops the I/O thread.
+   */
+  public void flush() {
+    final ExecutorService current;
+    synchronized (this) {
+      current = this.executor;
+      this.executor = null;
+    }
+    if (current == null) {
+      return;
+    }
+    // Shutting down still runs every queued task, in order.
+    current.shutdown();
+    try {
+      if (!current.awaitTermination(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LogUtil.error("Could not flush {} pending runtime config writes!", this.pending.size());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Queues an operation, scheduling a write task unless one is already pending for the same file.
+   * Runs under the same lock {@link #flush()} uses to stop the executor, so the task is never
+   * submitted to an executor that is shutting down.
+   *
+   * @param write the operation to queue.
+   */
+  private synchronized void enqueue(PendingWrite write) {
+    final File target = new File(write.dataDir, write.identifier + JacksonUtil.FILE_EXTENSION);
+    // A task is only scheduled when nothing was pending, later operations replace its value.
+    if (this.pending.put(target, write) != null) {
+      return;
+    }
+    try {
+      this.executor().execute(() -> this.write(target));
+    } catch (RejectedExecutionException e) {
+      // Leaving the entry behind would stop every later operation on the file from being scheduled.
+      this.pending.remove(target, write);
+      LogUtil.error("Could not queue runtime config write for {}!", write.identifier, e);
+    }
+  }
+
+  /**
+   * Gets the I/O executor, starting it if it was stopped by {@link #flush()}.
+   *
+   * @return the running executor.
+   */
+  private synchronized ExecutorService executor() {
+    if (this.executor == null) {
+      this.executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "DMZ Config Writer");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    return this.executor;
+  }
+
+  private void write(File target) {
+    final PendingWrite write = this.pending.remove(target);
+    if (write == null) {
+      return;
+    }
+    if (write.operation == Operation.DELETE) {
+      final boolean result = JacksonUtil.deleteJson(write.dataDir, write.identifier);
+      if (!write.log) {
+        return;
+      }
+      if (!result) {
+        LogUtil.error("Could not delete data for {} in {}!", write.identifier, write.dataDir);
+      } else {
+        LogUtil.info("Deleted data for {} in {}!", write.identifier, write.dataDir);
+      }
+      return;
+    }
+    try {
+      JacksonUtil.saveJsonAtomically(write.data, write.dataDir, write.identifier);
+      if (write.log) {
+        LogUtil.info("Saved data for {} in {}!", write.identifier, write.dataDir);
+      }
+    } catch (IOException e) {
+      LogUtil.error("Could not save data for {}!", write.identifier, e);
+    }
+  }
+
+  /**
+   * Kind of a queued operation.
+   */
+  private enum Operation {
+    SAVE,
+    DELETE
+  }
+
+  /**
+   * A queued save or deletion. {@link #data} is only set for saves.
+   */
+  private static final class PendingWrite {
+
+    private final Operation operation;
+    private final String dataDir;
+    private final String identifier;
+    private final Object data;
+    private final boolean log;
+
+    private PendingWrite(Operation operation, String dataDir, String identifier, Object data,
+        boolean log) {
+      this.operation = operation;
+      this.dataDir = dataDir;
+      this.identifier = identifier;
+      this.data = data;
+      this.log = log;
+    }
+  }
+}
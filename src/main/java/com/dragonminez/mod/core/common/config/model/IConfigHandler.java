@@ -2,6 +2,7 @@ package com.dragonminez.mod.core.common.config.model;
 
 import com.dragonminez.mod.common.Reference;
 import java.io.File;
+import java.util.Map;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.fml.loading.FMLEnvironment;
 import net.minecraftforge.fml.loading.FMLPaths;
@@ -68,6 +69,38 @@ public interface IConfigHandler<T> {
    */
   void onLoaded(String key, T data);
 
+  /**
+   * Called once with every runtime configuration of the handler read during loading, instead of
+   * calling {@link #onLoaded(String, Object)} for each of them. Defaults to calling
+   * {@link #onLoaded(String, Object)} for each entry, override it to store them all at once.
+   *
+   * @param data The loaded configuration data by key, in file name order.
+   */
+  default void onLoadedAll(Map<String, T> data) {
+    data.forEach(this::onLoaded);
+  }
+
+  /**
+   * Called when an already loaded runtime configuration has been changed on disk and parsed again.
+   * Defaults to {@link #onLoaded(String, Object)}, override it if loading again would duplicate
+   * data.
+   *
+   * @param key  The key associated with the configuration.
+   * @param data The new configuration data.
+   */
+  default void onReloaded(String key, T data) {
+    this.onLoaded(key, data);
+  }
+
+  /**
+   * Called when a runtime configuration file has been deleted from disk while the game is running.
+   * Does nothing by default, keeping the last loaded data.
+   *
+   * @param key The key associated with the configuration.
+   */
+  default void onRemoved(String key) {
+  }
+
   /**
    * Gets the directory path where configuration files are stored.
    *
@@ -7,12 +7,17 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
-import java.io.BufferedReader;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -56,6 +61,15 @@ public class JacksonUtil {
       .build()
       .setSerializationInclusion(JsonInclude.Include.NON_DEFAULT);
 
+  /**
+   * Jackson ObjectMapper for the binary Smile format, used to cache already deserialized objects.
+   * It shares the visibility rules of {@link #OBJECT_MAPPER} but always includes every property,
+   * so cached objects are restored exactly as they were parsed.
+   */
+  public static final ObjectMapper BINARY_MAPPER = SmileMapper.builder()
+      .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY)
+      .build();
+
   /**
    * The file extension used for JSON5 files.
    */
@@ -90,14 +104,89 @@ public class JacksonUtil {
    * @throws RuntimeException if there is an error during the deserialization process.
    */
   public static <T> void loadJsonFromFile(Class<T> clazz, File file, Consumer<T> onFetched) {
+    onFetched.accept(readJsonFromFile(clazz, file));
+  }
+
+  /**
+   * Reads a JSON5 file and maps it to an object of the specified class. Unlike
+   * {@link #loadJsonFromFile(Class, File, Consumer)}, the object is returned so it can be handed
+   * over to another thread.
+   *
+   * @param clazz The class to map the JSON5 content to.
+   * @param file  The file containing the JSON5 data.
+   * @param <T>   The type of the object to map the JSON5 data to.
+   * @return The deserialized object.
+   * @throws RuntimeException if there is an error during the deserialization process.
+   */
+  public static <T> T readJsonFromFile(Class<T> clazz, File file) {
     try {
-      T data = OBJECT_MAPPER.readValue(file, clazz);
-      onFetched.accept(data);
+      return OBJECT_MAPPER.readValue(file, clazz);
     } catch (IOException e) {
       throw new RuntimeException("Failed to load JSON5 data from file", e);
     }
   }
 
+  /**
+   * Maps JSON5 content that has already been read into memory to an object of the specified class.
+   *
+   * @param clazz   The class to map the JSON5 content to.
+   * @param content The raw JSON5 bytes.
+   * @param <T>     The type of the object to map the JSON5 data to.
+   * @return The deserialized object.
+   * @throws RuntimeException if there is an error during the deserialization process.
+   */
+  public static <T> T readJsonFromBytes(Class<T> clazz, byte[] content) {
+    try {
+      return OBJECT_MAPPER.readValue(content, clazz);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to load JSON5 data from bytes", e);
+    }
+  }
+
+  /**
+   * Serializes an object to the binary format of {@link #BINARY_MAPPER}.
+   *
+   * @param object The object to serialize.
+   * @return The binary representation of the object.
+   * @throws IOException if the object cannot be serialized.
+   */
+  public static byte[] writeBinary(Object object) throws IOException {
+    return BINARY_MAPPER.writeValueAsBytes(object);
+  }
+
+  /**
+   * Deserializes an object previously written by {@link #writeBinary(Object)}.
+   *
+   * @param clazz   The class of the object.
+   * @param content The binary representation of the object.
+   * @param <T>     The type of the object.
+   * @return The deserialized object.
+   * @throws IOException if the content cannot be deserialized into the given class.
+   */
+  public static <T> T readBinary(Class<T> clazz, byte[] content) throws IOException {
+    return BINARY_MAPPER.readValue(content, clazz);
+  }
+
+  /**
+   * Writes the given bytes to a temporary file next to the target and then moves it over the
+   * target, so readers never observe a partially written file.
+   *
+   * @param target  The file to write.
+   * @param content The bytes to write.
+   * @throws IOException if the file cannot be written or moved.
+   */
+  public static void writeAtomically(Path target, byte[] content) throws IOException {
+    createParentDirectories(target);
+    final Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+    Files.write(temp, content);
+    try {
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
   /**
    * Saves an object as a JSON5 file at the specified file path with the given file name.
    *
@@ -118,6 +207,22 @@ public class JacksonUtil {
     OBJECT_MAPPER.writeValue(file, object);
   }
 
+  /**
+   * Saves an object as a JSON5 file like {@link #saveJson(Object, String, String)}, but writes it
+   * through {@link #writeAtomically(Path, byte[])} so a crash never leaves a torn file behind.
+   *
+   * @param object   The object to be serialized and saved as a JSON5 file.
+   * @param filePath The directory where the file should be saved.
+   * @param fileName The name of the file to save the object to (without the extension).
+   * @param <T>      The type of the object to be saved.
+   * @throws IOException if there is an error during the file writing process.
+   */
+  public static <T> void saveJsonAtomically(T object, String filePath, String fileName)
+      throws IOException {
+    writeAtomically(new File(filePath, fileName + FILE_EXTENSION).toPath(),
+        OBJECT_MAPPER.writeValueAsBytes(object));
+  }
+
   /**
    * Reads a JSON5 file and maps it to an object of the specified class.
    *
@@ -138,26 +243,42 @@ public class JacksonUtil {
   }
 
   /**
-   * Copies data from an InputStream to a file at the specified file path.
+   * Writes the given bytes to a file at the specified file path as they are, without decoding them
+   * or rewriting line separators. Nothing is written if the file already exists, so files edited by
+   * the user are never overwritten.
    *
-   * @param inputStream The InputStream containing the data to copy.
-   * @param filePath    The file path to write the data to.
+   * @param content  The bytes to write.
+   * @param filePath The file path to write the data to.
+   * @return True if the file was written, false if it already existed.
    * @throws IOException if there is an error during the file writing process.
    */
-  public static void copyStreamToFile(InputStream inputStream, String filePath) throws IOException {
-    File file = new File(filePath);
-    File parentDir = file.getParentFile();
-    if (parentDir != null && !parentDir.exists()) {
-      if (!parentDir.mkdirs()) {
-        throw new IOException("Failed to create directory: " + parentDir.getAbsolutePath());
-      }
+  public static boolean copyBytesToFile(byte[] content, String filePath) throws IOException {
+    final Path path = Paths.get(filePath);
+    if (Files.exists(path)) {
+      return false;
     }
-    try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
-        FileWriter writer = new FileWriter(file)) {
-      String line;
-      while ((line = reader.readLine()) != null) {
-        writer.write(line);
-        writer.write(System.lineSeparator());
+    createParentDirectories(path);
+    try {
+      Files.write(path, content, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    } catch (FileAlreadyExistsException e) {
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Creates the parent directories of a file if they do not exist yet.
+   *
+   * @param path The file whose parent directories should exist.
+   * @throws IOException if a directory cannot be created.
+   */
+  private static void createParentDirectories(Path path) throws IOException {
+    final Path parentDir = path.toAbsolutePath().getParent();
+    if (parentDir != null && !Files.isDirectory(parentDir)) {
+      try {
+        Files.createDirectories(parentDir);
+      } catch (IOException e) {
+        throw new IOException("Failed to create directory: " + parentDir, e);
       }
     }
   }
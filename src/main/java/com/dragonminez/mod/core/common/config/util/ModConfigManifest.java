@@ -0,0 +1,174 @@
+package com.dragonminez.mod.core.common.config.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * In-memory index of the DMZ configuration files bundled inside a mod file.
+ * <p>
+ * A mod file is opened and walked exactly once by {@link #scan(Path, String)}, and every JSON5 entry
+ * below the scanned root is read into memory and grouped by its parent directory. Configuration
+ * handlers then pull their files from the manifest instead of reopening the mod file each time.
+ * </p>
+ */
+public final class ModConfigManifest {
+
+  /**
+   * Manifest used for mods without any DMZ configuration.
+   */
+  public static final ModConfigManifest EMPTY = new ModConfigManifest(Map.of());
+
+  /**
+   * Entries grouped by their parent directory, using {@code /} as separator.
+   */
+  private final Map<String, List<Entry>> directories;
+
+  private ModConfigManifest(Map<String, List<Entry>> directories) {
+    this.directories = directories;
+  }
+
+  /**
+   * Scans a mod file (either a jar or an exploded folder on development environments) and indexes
+   * every JSON5 file found below the given root directory.
+   *
+   * @param modPath the path of the mod file.
+   * @param rootDir the root directory inside the mod to index.
+   * @return the manifest, or {@link #EMPTY} if the mod has no such directory.
+   * @throws IOException if the mod file cannot be read.
+   */
+  public static ModConfigManifest scan(Path modPath, String rootDir) throws IOException {
+    final String root = normalize(rootDir);
+    if (!modPath.toString().endsWith("jar")) {
+      return scanFolder(modPath.resolve(rootDir), root);
+    }
+    try (FileSystem fileSystem = FileSystems.newFileSystem(modPath, new HashMap<>())) {
+      return scanFolder(fileSystem.getPath(root), root);
+    }
+  }
+
+  /**
+   * Walks a folder once, reading every JSON5 file into memory.
+   *
+   * @param folder the folder to walk.
+   * @param root   the normalized name of the folder, used as prefix for the directory keys.
+   * @return the manifest for the folder.
+   * @throws IOException if the folder cannot be walked.
+   */
+  private static ModConfigManifest scanFolder(Path folder, String root) throws IOException {
+    if (!Files.isDirectory(folder)) {
+      return EMPTY;
+    }
+    final Map<String, List<Entry>> directories = new HashMap<>();
+    try (Stream<Path> paths = Files.walk(folder)) {
+      for (Path path : (Iterable<Path>) paths::iterator) {
+        if (!Files.isRegularFile(path)
+            || !path.toString().endsWith(JacksonUtil.FILE_EXTENSION)) {
+          continue;
+        }
+        final String relative = normalize(folder.relativize(path.getParent()).toString());
+        final String directory = relative.isEmpty() ? root : root + "/" + relative;
+        final String fileName = path.getFileName().toString();
+        directories.computeIfAbsent(directory, key -> new ArrayList<>())
+            .add(new Entry(directory + "/" + fileName, fileName, Files.readAllBytes(path)));
+      }
+    }
+    if (directories.isEmpty()) {
+      return EMPTY;
+    }
+    directories.values().forEach(entries -> entries.sort(Comparator.comparing(Entry::fileName)));
+    return new ModConfigManifest(directories);
+  }
+
+  /**
+   * Returns the entries located directly inside the given directory.
+   *
+   * @param directory the directory, using either {@code /} or the platform separator.
+   * @return the entries sorted by file name, or an empty list if there are none.
+   */
+  public List<Entry> files(String directory) {
+    return this.directories.getOrDefault(normalize(directory), List.of());
+  }
+
+  /**
+   * @return whether the manifest does not contain any configuration file.
+   */
+  public boolean isEmpty() {
+    return this.directories.isEmpty();
+  }
+
+  /**
+   * @return the amount of configuration files in the manifest.
+   */
+  public int size() {
+    int size = 0;
+    for (List<Entry> entries : this.directories.values()) {
+      size += entries.size();
+    }
+    return size;
+  }
+
+  private static String normalize(String path) {
+    return path.replace(File.separatorChar, '/');
+  }
+
+  /**
+   * A single configuration file read from a mod file.
+   */
+  public static final class Entry {
+
+    private final String path;
+    private final String fileName;
+    private final byte[] content;
+
+    private Entry(String path, String fileName, byte[] content) {
+      this.path = path;
+      this.fileName = fileName;
+      this.content = content;
+    }
+
+    /**
+     * @return the path of the entry inside the mod file, using {@code /} as separator.
+     */
+    public String path() {
+      return path;
+    }
+
+    /**
+     * @return the file name of the entry, including its extension.
+     */
+    public String fileName() {
+      return fileName;
+    }
+
+    /**
+     * @return the raw bytes of the entry. The array must not be modified.
+     */
+    public byte[] content() {
+      return content;
+    }
+
+    /**
+     * @return a new stream over the content of the entry.
+     */
+    public InputStream openStream() {
+      return new ByteArrayInputStream(this.content);
+    }
+
+    @Override
+    public String toString() {
+      return this.path;
+    }
+  }
+}
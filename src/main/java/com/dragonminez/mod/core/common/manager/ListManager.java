@@ -2,19 +2,36 @@ package com.dragonminez.mod.core.common.manager;
 
 import com.dragonminez.mod.common.util.LogUtil;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableSetMultimap;
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * Generic manager class for managing a mapping of keys to multiple values. Uses
  * {@link HashMultimap} to allow multiple values per key unless uniqueness is enforced.
+ * <p>
+ * Managers read from other threads can enable {@link #copyOnWrite()}. Every write operation is then
+ * published as an immutable snapshot through a volatile field, and readers get wait-free access to
+ * a consistent view that never changes under them.
  *
  * @param <K> The key type
  * @param <V> The value type
  */
 public abstract class ListManager<K, V> {
 
-  private final HashMultimap<K, V> map = HashMultimap.create();
+  /**
+   * The entries of the manager. Only read directly when {@link #copyOnWrite()} is disabled,
+   * otherwise it is the working copy of the writers.
+   */
+  private HashMultimap<K, V> map = HashMultimap.create();
+
+  /**
+   * Immutable copy of {@link #map} read when {@link #copyOnWrite()} is enabled. Built by the writer
+   * once per write operation, so bulk loads should go through {@link #loadAll(Map)}.
+   */
+  private volatile ImmutableSetMultimap<K, V> snapshot = ImmutableSetMultimap.of();
 
   /**
    * Adds a value to a given key. If {@link #uniqueKeys()} is true, only one value per key is
@@ -23,9 +40,9 @@ public abstract class ListManager<K, V> {
    * @param key   The key to add
    * @param value The value to associate with the key
    */
-  public void add(K key, V value) {
+  public synchronized void add(K key, V value) {
     if (this.uniqueKeys() && this.map.containsKey(key)) {
-      LogUtil.error("Duplicated key %s on manager %s".formatted(key, this.identifier()));
+      LogUtil.error("Duplicated key {} on manager {}", key, this.identifier());
       return;
     }
     this.update(key, value);
@@ -38,10 +55,51 @@ public abstract class ListManager<K, V> {
    * @param key   The key to update
    * @param value The value to associate
    */
-  public void update(K key, V value) {
+  public synchronized void update(K key, V value) {
     this.map.put(key, value);
+    this.logAddition(key, value);
+    this.publish();
+  }
+
+  /**
+   * Adds every given entry at once, such as when loading configs. Behaves like calling
+   * {@link #add(Object, Object)} for each entry, but the backing map is sized once, duplicated keys
+   * are reported together, readers see a single change and only one summary line is logged. The
+   * line for each entry is only logged at debug level.
+   *
+   * @param entries The entries to add
+   */
+  public synchronized void loadAll(Map<K, V> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    final HashMultimap<K, V> loaded = HashMultimap.create(
+        this.map.keySet().size() + entries.size(), this.uniqueKeys() ? 1 : 2);
+    loaded.putAll(this.map);
+    final Set<K> duplicated = new LinkedHashSet<>();
+    for (Map.Entry<K, V> entry : entries.entrySet()) {
+      if (this.uniqueKeys() && this.map.containsKey(entry.getKey())) {
+        duplicated.add(entry.getKey());
+        continue;
+      }
+      loaded.put(entry.getKey(), entry.getValue());
+    }
+    this.map = loaded;
+    this.publish();
+
+    if (!duplicated.isEmpty()) {
+      LogUtil.error("Duplicated keys {} on manager {}", duplicated, this.identifier());
+    }
     if (this.logMode() == LogMode.LOG_ALL || this.logMode() == LogMode.LOG_ADDITION) {
-      LogUtil.info("Added %s to %s".formatted(value, key));
+      LogUtil.info("Loaded {} entries into {}, {} skipped as duplicated",
+          entries.size() - duplicated.size(), this.identifier(), duplicated.size());
+      if (LogUtil.isDebugEnabled()) {
+        entries.forEach((key, value) -> {
+          if (!duplicated.contains(key)) {
+            LogUtil.debug("Added {} to {}", value, key);
+          }
+        });
+      }
     }
   }
 
@@ -51,11 +109,39 @@ public abstract class ListManager<K, V> {
    * @param key   The key to remove the value from
    * @param value The value to remove
    */
-  public void remove(K key, V value) {
+  public synchronized void remove(K key, V value) {
     this.map.remove(key, value);
-    if (this.logMode() == LogMode.LOG_ALL || this.logMode() == LogMode.LOG_REMOVAL) {
-      LogUtil.info("Removed %s from %s".formatted(value, key));
+    this.logRemoval(key, value);
+    this.publish();
+  }
+
+  /**
+   * Replaces every value associated with a key with the given value, as a single change. Logs the
+   * same lines as {@link #removeAll(Object)} followed by {@link #update(Object, Object)}.
+   *
+   * @param key   The key to replace the values of
+   * @param value The new value to associate with the key
+   */
+  public synchronized void replace(K key, V value) {
+    for (V removed : this.map.removeAll(key)) {
+      this.logRemoval(key, removed);
     }
+    this.map.put(key, value);
+    this.logAddition(key, value);
+    this.publish();
+  }
+
+  /**
+   * Removes every value associated with a given key, as a single change. Logging behavior depends
+   * on {@link #logMode()}.
+   *
+   * @param key The key to remove the values from
+   */
+  public synchronized void removeAll(K key) {
+    for (V removed : this.map.removeAll(key)) {
+      this.logRemoval(key, removed);
+    }
+    this.publish();
   }
 
   /**
@@ -65,7 +151,7 @@ public abstract class ListManager<K, V> {
    * @return A set of values associated with the key
    */
   public Set<V> get(K key) {
-    return this.map.get(key);
+    return this.copyOnWrite() ? this.snapshot.get(key) : this.map.get(key);
   }
 
   /**
@@ -74,7 +160,7 @@ public abstract class ListManager<K, V> {
    * @return A set of keys
    */
   public Set<K> keys() {
-    return this.map.keySet();
+    return this.copyOnWrite() ? this.snapshot.keySet() : this.map.keySet();
   }
 
   /**
@@ -83,7 +169,50 @@ public abstract class ListManager<K, V> {
    * @return A collection of all values
    */
   public Collection<V> values() {
-    return this.map.values();
+    return this.copyOnWrite() ? this.snapshot.values() : this.map.values();
+  }
+
+  /**
+   * Publishes the current entries to the readers and notifies {@link #onChanged()}. Called once per
+   * public write, after the whole change is applied to {@link #map}.
+   */
+  private void publish() {
+    if (this.copyOnWrite()) {
+      this.snapshot = ImmutableSetMultimap.copyOf(this.map);
+    }
+    this.onChanged();
+  }
+
+  private void logAddition(K key, V value) {
+    if (this.logMode() == LogMode.LOG_ALL || this.logMode() == LogMode.LOG_ADDITION) {
+      LogUtil.info("Added {} to {}", value, key);
+    }
+  }
+
+  private void logRemoval(K key, V value) {
+    if (this.logMode() == LogMode.LOG_ALL || this.logMode() == LogMode.LOG_REMOVAL) {
+      LogUtil.info("Removed {} from {}", value, key);
+    }
+  }
+
+  /**
+   * Determines if the manager publishes an immutable snapshot after every write operation. Readers
+   * then never block and never see a write in progress, which makes the manager safe to read from
+   * any thread. Each write operation copies the whole manager, so it suits managers that are read
+   * often and written rarely, such as configs loaded at startup through {@link #loadAll(Map)} or
+   * reloaded one file at a time.
+   *
+   * @return true if reads go through an immutable snapshot, false to read the live entries
+   */
+  protected boolean copyOnWrite() {
+    return false;
+  }
+
+  /**
+   * Called after every addition or removal, once the change is visible to readers. Managers keeping
+   * derived lookup structures can override it to invalidate them.
+   */
+  protected void onChanged() {
   }
 
   /**
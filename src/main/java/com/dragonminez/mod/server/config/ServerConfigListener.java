@@ -0,0 +1,29 @@
+package com.dragonminez.mod.server.config;
+
+import com.dragonminez.mod.common.Reference;
+import com.dragonminez.mod.core.common.config.RuntimeConfigWatcher;
+import com.dragonminez.mod.core.common.config.RuntimeConfigWriter;
+import net.minecraftforge.event.server.ServerStartedEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+@Mod.EventBusSubscriber(modid = Reference.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class ServerConfigListener {
+
+  @SubscribeEvent
+  public static void onServerStarted(ServerStartedEvent event) {
+    RuntimeConfigWatcher.INSTANCE.start(event.getServer());
+  }
+
+  @SubscribeEvent
+  public static void onServerStopping(ServerStoppingEvent event) {
+    RuntimeConfigWatcher.INSTANCE.stop();
+  }
+
+  @SubscribeEvent
+  public static void onServerStopped(ServerStoppedEvent event) {
+    RuntimeConfigWriter.INSTANCE.flush();
+  }
+}
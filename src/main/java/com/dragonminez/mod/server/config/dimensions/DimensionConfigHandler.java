@@ -4,6 +4,7 @@ import com.dragonminez.mod.common.registry.ConfigRegistry;
 import com.dragonminez.mod.core.common.config.model.ConfigDist;
 import com.dragonminez.mod.core.common.config.model.ConfigType;
 import com.dragonminez.mod.core.common.config.model.IConfigHandler;
+import java.util.Map;
 
 public class DimensionConfigHandler implements IConfigHandler<DimensionConfig> {
 
@@ -46,4 +47,19 @@ public class DimensionConfigHandler implements IConfigHandler<DimensionConfig> {
   public void onLoaded(String key, DimensionConfig data) {
     DimensionsConfigManager.INSTANCE.add(key, data);
   }
+
+  @Override
+  public void onLoadedAll(Map<String, DimensionConfig> data) {
+    DimensionsConfigManager.INSTANCE.loadAll(data);
+  }
+
+  @Override
+  public void onReloaded(String key, DimensionConfig data) {
+    DimensionsConfigManager.INSTANCE.replace(key, data);
+  }
+
+  @Override
+  public void onRemoved(String key) {
+    DimensionsConfigManager.INSTANCE.removeAll(key);
+  }
 }
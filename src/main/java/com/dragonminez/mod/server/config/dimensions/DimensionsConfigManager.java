@@ -2,6 +2,8 @@ package com.dragonminez.mod.server.config.dimensions;
 
 import com.dragonminez.mod.common.registry.ConfigRegistry;
 import com.dragonminez.mod.core.common.manager.ListManager;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.Level;
@@ -10,6 +12,22 @@ public class DimensionsConfigManager extends ListManager<String, DimensionConfig
 
   public static final DimensionsConfigManager INSTANCE = new DimensionsConfigManager();
 
+  /**
+   * Config used for dimensions without a config of their own, holding the default values.
+   */
+  public static final DimensionConfig DEFAULT = DimensionConfig.builder().build();
+
+  /**
+   * Cached marker for dimensions known to have no config.
+   */
+  private static final DimensionConfig NONE = DimensionConfig.builder().build();
+
+  /**
+   * Resolved configs by dimension key. Level keys are interned and compared by identity, so a hit
+   * costs a single identity hash lookup. Replaced as a whole whenever the configs change.
+   */
+  private volatile Map<ResourceKey<Level>, DimensionConfig> resolved = new ConcurrentHashMap<>();
+
   private DimensionsConfigManager() {
   }
 
@@ -26,13 +44,49 @@ public class DimensionsConfigManager extends ListManager<String, DimensionConfig
   }
 
   /**
-   * Get the dimension config for the given key.
+   * Get the dimension config for the given key. Resolved once per key and cached afterwards.
    *
    * @param key The key of the dimension.
-   * @return The dimension config.
+   * @return The dimension config, or null if the dimension has none.
    */
   public DimensionConfig get(ResourceKey<Level> key) {
-    return this.get(key.location());
+    final DimensionConfig config = this.resolve(key);
+    return config == NONE ? null : config;
+  }
+
+  /**
+   * Get the dimension config for the given key, falling back to {@link #DEFAULT} if the dimension
+   * has none. Resolved once per key and cached afterwards.
+   *
+   * @param key The key of the dimension.
+   * @return The dimension config.
+   */
+  public DimensionConfig getOrDefault(ResourceKey<Level> key) {
+    final DimensionConfig config = this.resolve(key);
+    return config == NONE ? DEFAULT : config;
+  }
+
+  private DimensionConfig resolve(ResourceKey<Level> key) {
+    final Map<ResourceKey<Level>, DimensionConfig> cache = this.resolved;
+    DimensionConfig config = cache.get(key);
+    if (config == null) {
+      config = this.get(key.location());
+      if (config == null) {
+        config = NONE;
+      }
+      cache.put(key, config);
+    }
+    return config;
+  }
+
+  @Override
+  protected void onChanged() {
+    this.resolved = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  protected boolean copyOnWrite() {
+    return true;
   }
 
   @Override
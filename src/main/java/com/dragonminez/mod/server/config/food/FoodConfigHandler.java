@@ -4,6 +4,7 @@ import com.dragonminez.mod.common.registry.ConfigRegistry;
 import com.dragonminez.mod.core.common.config.model.ConfigDist;
 import com.dragonminez.mod.core.common.config.model.ConfigType;
 import com.dragonminez.mod.core.common.config.model.IConfigHandler;
+import java.util.Map;
 
 public class FoodConfigHandler implements IConfigHandler<FoodConfig> {
 
@@ -46,4 +47,19 @@ public class FoodConfigHandler implements IConfigHandler<FoodConfig> {
   public void onLoaded(String key, FoodConfig data) {
     FoodConfigManager.INSTANCE.add(key, data);
   }
+
+  @Override
+  public void onLoadedAll(Map<String, FoodConfig> data) {
+    FoodConfigManager.INSTANCE.loadAll(data);
+  }
+
+  @Override
+  public void onReloaded(String key, FoodConfig data) {
+    FoodConfigManager.INSTANCE.replace(key, data);
+  }
+
+  @Override
+  public void onRemoved(String key) {
+    FoodConfigManager.INSTANCE.removeAll(key);
+  }
 }
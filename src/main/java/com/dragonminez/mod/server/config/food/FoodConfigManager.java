@@ -2,14 +2,61 @@ package com.dragonminez.mod.server.config.food;
 
 import com.dragonminez.mod.common.registry.ConfigRegistry;
 import com.dragonminez.mod.core.common.manager.ListManager;
+import net.minecraft.world.item.Item;
 
 public class FoodConfigManager extends ListManager<String, FoodConfig> {
 
   public static final FoodConfigManager INSTANCE = new FoodConfigManager();
 
+  /**
+   * Read-optimized view of the loaded configs, null when it has to be rebuilt. Built lazily since
+   * configs are loaded before items are registered.
+   */
+  private volatile FoodRegenSnapshot snapshot;
+
   private FoodConfigManager() {
   }
 
+  /**
+   * Get the regeneration values for the given item. Lock-free and allocation-free once the snapshot
+   * has been built.
+   *
+   * @param item The eaten item.
+   * @return The regeneration values, or null if the item has no food config.
+   */
+  public FoodRegen regen(Item item) {
+    FoodRegenSnapshot current = this.snapshot;
+    if (current == null) {
+      current = this.rebuildSnapshot();
+    }
+    return current.get(item);
+  }
+
+  /**
+   * Builds and publishes a new snapshot, unless another thread already did.
+   *
+   * @return The current snapshot.
+   */
+  private synchronized FoodRegenSnapshot rebuildSnapshot() {
+    FoodRegenSnapshot current = this.snapshot;
+    if (current == null) {
+      current = this.values().isEmpty() ? FoodRegenSnapshot.EMPTY
+          : FoodRegenSnapshot.build(this.values());
+      this.snapshot = current;
+    }
+    return current;
+  }
+
+  @Override
+  protected void onChanged() {
+    this.snapshot = null;
+  }
+
+  @Override
+  protected boolean copyOnWrite() {
+    return true;
+  }
+
   @Override
   public String identifier() {
     return ConfigRegistry.FOOD;
@@ -0,0 +1,39 @@
+package com.dragonminez.mod.server.config.food;
+
+/**
+ * Flat, read-only view of the regeneration values of a {@link FoodConfig}, resolved to an item and
+ * used on the eating hot path.
+ */
+public final class FoodRegen {
+
+  private final double healthRegen;
+  private final double kiRegen;
+  private final double staminaRegen;
+
+  FoodRegen(FoodConfig config) {
+    this.healthRegen = config.getHealthRegen();
+    this.kiRegen = config.getKiRegen();
+    this.staminaRegen = config.getStaminaRegen();
+  }
+
+  /**
+   * @return the health regeneration value
+   */
+  public double healthRegen() {
+    return healthRegen;
+  }
+
+  /**
+   * @return the ki regeneration value
+   */
+  public double kiRegen() {
+    return kiRegen;
+  }
+
+  /**
+   * @return the stamina regeneration value
+   */
+  public double staminaRegen() {
+    return staminaRegen;
+  }
+}
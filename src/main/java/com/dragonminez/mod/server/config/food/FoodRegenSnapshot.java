@@ -0,0 +1,69 @@
+package com.dragonminez.mod.server.config.food;
+
+import com.dragonminez.mod.common.util.LogUtil;
+import java.util.Collection;
+import java.util.Optional;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+
+/**
+ * Immutable lookup table from an item's registry id to its {@link FoodRegen}.
+ * <p>
+ * Built once from the loaded {@link FoodConfig}s, after which lookups are a single array access
+ * without string hashing or set views. Instances are never modified, so they can be read from any
+ * thread and replaced atomically.
+ * </p>
+ */
+final class FoodRegenSnapshot {
+
+  static final FoodRegenSnapshot EMPTY = new FoodRegenSnapshot(new FoodRegen[0]);
+
+  /**
+   * Regeneration values indexed by item registry id, null for items without a config.
+   */
+  private final FoodRegen[] byItemId;
+
+  private FoodRegenSnapshot(FoodRegen[] byItemId) {
+    this.byItemId = byItemId;
+  }
+
+  /**
+   * Gets the regeneration values of an item.
+   *
+   * @param item The item.
+   * @return The regeneration values, or null if the item has no food config.
+   */
+  FoodRegen get(Item item) {
+    final int id = BuiltInRegistries.ITEM.getId(item);
+    return id >= 0 && id < this.byItemId.length ? this.byItemId[id] : null;
+  }
+
+  /**
+   * Resolves every food config to its item and builds a new snapshot. Configs pointing to unknown
+   * items are skipped with a warning.
+   *
+   * @param configs The loaded food configs.
+   * @return The new snapshot.
+   */
+  static FoodRegenSnapshot build(Collection<FoodConfig> configs) {
+    FoodRegen[] byItemId = new FoodRegen[0];
+    for (FoodConfig config : configs) {
+      final ResourceLocation location = ResourceLocation.tryParse(config.getItemID());
+      final Optional<Item> item = location == null ? Optional.empty()
+          : BuiltInRegistries.ITEM.getOptional(location);
+      if (item.isEmpty()) {
+        LogUtil.warn("Skipping food config for unknown item '{}'.", config.getItemID());
+        continue;
+      }
+      final int id = BuiltInRegistries.ITEM.getId(item.get());
+      if (id >= byItemId.length) {
+        final FoodRegen[] grown = new FoodRegen[Math.max(id + 1, byItemId.length * 2)];
+        System.arraycopy(byItemId, 0, grown, 0, byItemId.length);
+        byItemId = grown;
+      }
+      byItemId[id] = new FoodRegen(config);
+    }
+    return new FoodRegenSnapshot(byItemId);
+  }
+}
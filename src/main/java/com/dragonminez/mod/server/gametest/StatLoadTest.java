@@ -0,0 +1,246 @@
+package com.dragonminez.mod.server.gametest;
+
+import com.dragonminez.mod.common.Reference;
+import com.dragonminez.mod.common.network.metrics.NetworkMetrics;
+import com.dragonminez.mod.common.network.metrics.PacketStats;
+import com.dragonminez.mod.common.player.stat.StatData;
+import com.dragonminez.mod.common.util.LogUtil;
+import com.dragonminez.mod.server.network.PlayerTrackerIndex;
+import com.dragonminez.mod.server.player.stat.ServerStatManager;
+import com.mojang.authlib.GameProfile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import net.minecraft.gametest.framework.GameTestGenerator;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.gametest.framework.TestFunction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.common.util.FakePlayer;
+import net.minecraftforge.common.util.FakePlayerFactory;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.gametest.GameTestHolder;
+
+/**
+ * Headless load test for the stat and sync subsystem, run through the {@code gameTestServer} run.
+ * <p>
+ * Spawns a number of fake players and, on every tick, drives {@link ServerStatManager} setters,
+ * combat mode and blocking toggles and tracking changes on random players. Tracking changes are
+ * posted as {@link PlayerEvent.StartTracking} and {@link PlayerEvent.StopTracking} events, so they go
+ * through the same listeners as real ones. Once done it logs the mean and p99 server tick time and
+ * the DMZ packets and bytes sent per tick, taken from {@link NetworkMetrics}. Fake players drop
+ * every packet, but messages are still encoded and counted before reaching the connection.
+ * <p>
+ * Disabled unless {@code dragonminez.loadtest} is {@code true}. Configured through the following
+ * system properties:
+ * <ul>
+ *   <li>{@code dragonminez.loadtest.players}: simulated players, 150 by default.</li>
+ *   <li>{@code dragonminez.loadtest.trackers}: players initially tracking each player, 24 by
+ *   default.</li>
+ *   <li>{@code dragonminez.loadtest.statChanges}: stat setter calls per tick, 150 by default.</li>
+ *   <li>{@code dragonminez.loadtest.combatToggles}: combat mode or blocking toggles per tick, 30 by
+ *   default.</li>
+ *   <li>{@code dragonminez.loadtest.trackingChanges}: tracking changes per tick, 10 by default.</li>
+ *   <li>{@code dragonminez.loadtest.warmupTicks}: ticks run before measuring, 100 by default.</li>
+ *   <li>{@code dragonminez.loadtest.ticks}: measured ticks, 600 by default.</li>
+ *   <li>{@code dragonminez.loadtest.seed}: seed of the simulation, so runs are repeatable.</li>
+ * </ul>
+ */
+@GameTestHolder(Reference.MOD_ID)
+public final class StatLoadTest {
+
+  private static final boolean ENABLED = Boolean.getBoolean("dragonminez.loadtest");
+  private static final int PLAYERS = Integer.getInteger("dragonminez.loadtest.players", 150);
+  private static final int TRACKERS = Integer.getInteger("dragonminez.loadtest.trackers", 24);
+  private static final int STAT_CHANGES =
+      Integer.getInteger("dragonminez.loadtest.statChanges", 150);
+  private static final int COMBAT_TOGGLES =
+      Integer.getInteger("dragonminez.loadtest.combatToggles", 30);
+  private static final int TRACKING_CHANGES =
+      Integer.getInteger("dragonminez.loadtest.trackingChanges", 10);
+  private static final int WARMUP_TICKS =
+      Integer.getInteger("dragonminez.loadtest.warmupTicks", 100);
+  private static final int TICKS = Integer.getInteger("dragonminez.loadtest.ticks", 600);
+  private static final long SEED = Long.getLong("dragonminez.loadtest.seed", 0L);
+
+  /**
+   * Forms the simulated players switch between, kept small so the string table stays stable.
+   */
+  private static final String[] FORMS = {Reference.EMPTY, Reference.MOD_ID + ":loadtest_first",
+      Reference.MOD_ID + ":loadtest_second"};
+
+  private StatLoadTest() {
+  }
+
+  @GameTestGenerator
+  public static Collection<TestFunction> generateTests() {
+    if (!ENABLED) {
+      return List.of();
+    }
+    return List.of(new TestFunction("dragonminez_load", "dragonminez.statload",
+        "forge:empty3x3x3", WARMUP_TICKS + TICKS + 20, 0L, true, StatLoadTest::run));
+  }
+
+  private static void run(GameTestHelper helper) {
+    final Simulation simulation = new Simulation(helper.getLevel());
+    MinecraftForge.EVENT_BUS.register(simulation);
+    helper.onEachTick(simulation::tick);
+    helper.runAfterDelay(WARMUP_TICKS + TICKS, () -> {
+      simulation.finish();
+      helper.succeed();
+    });
+  }
+
+  /**
+   * State of a single load test run. Registered on the Forge event bus while running to time the
+   * server ticks.
+   */
+  private static final class Simulation {
+
+    private final ServerStatManager manager = ServerStatManager.INSTANCE;
+    private final Random random = new Random(SEED);
+    private final List<FakePlayer> players = new ArrayList<>(PLAYERS);
+    private final long[] tickNanos = new long[TICKS];
+    private int measuredTicks;
+    private int elapsedTicks;
+    private boolean measuring;
+    private long tickStart;
+
+    private Simulation(ServerLevel level) {
+      for (int i = 0; i < PLAYERS; i++) {
+        final String name = "dmz_load_" + i;
+        final UUID id = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        final FakePlayer player = FakePlayerFactory.get(level, new GameProfile(id, name));
+        this.players.add(player);
+        this.manager.requestFullSync(player);
+      }
+      final int trackers = Math.min(TRACKERS, PLAYERS - 1);
+      for (FakePlayer target : this.players) {
+        for (int i = 0; i < trackers; i++) {
+          final FakePlayer tracker = this.randomPlayer();
+          if (tracker != target) {
+            MinecraftForge.EVENT_BUS.post(new PlayerEvent.StartTracking(tracker, target));
+          }
+        }
+      }
+      LogUtil.info("Stat load test started with {} players, measuring {} ticks after {} warmup "
+          + "ticks", PLAYERS, TICKS, WARMUP_TICKS);
+    }
+
+    private void tick() {
+      if (this.elapsedTicks++ == WARMUP_TICKS) {
+        NetworkMetrics.INSTANCE.reset();
+        this.measuring = true;
+      }
+      for (int i = 0; i < STAT_CHANGES; i++) {
+        this.changeStat(this.randomPlayer());
+      }
+      for (int i = 0; i < COMBAT_TOGGLES; i++) {
+        this.toggleCombat(this.randomPlayer());
+      }
+      for (int i = 0; i < TRACKING_CHANGES; i++) {
+        this.changeTracking(this.randomPlayer(), this.randomPlayer());
+      }
+    }
+
+    private void changeStat(FakePlayer player) {
+      final int value = this.random.nextInt(1000);
+      switch (this.random.nextInt(8)) {
+        case 0 -> this.manager.setStrength(player, value, false);
+        case 1 -> this.manager.setStrikePower(player, value, false);
+        case 2 -> this.manager.setEnergy(player, value, false);
+        case 3 -> this.manager.setVitality(player, value, false);
+        case 4 -> this.manager.setResistance(player, value, false);
+        case 5 -> this.manager.setKiPower(player, value, false);
+        case 6 -> this.manager.setAlignment(player, value - 500, false);
+        default -> this.manager.setForm(player, FORMS[this.random.nextInt(FORMS.length)], false);
+      }
+    }
+
+    private void toggleCombat(FakePlayer player) {
+      final StatData data = this.manager.getStatData(player);
+      if (data == null) {
+        return;
+      }
+      if (this.random.nextBoolean()) {
+        this.manager.setCombatMode(player, !data.isInCombatMode(), false);
+      } else {
+        this.manager.setBlocking(player, !data.isBlocking(), false);
+      }
+    }
+
+    private void changeTracking(ServerPlayer tracker, ServerPlayer target) {
+      if (tracker == target) {
+        return;
+      }
+      if (PlayerTrackerIndex.INSTANCE.trackers(target).contains(tracker)) {
+        MinecraftForge.EVENT_BUS.post(new PlayerEvent.StopTracking(tracker, target));
+      } else {
+        MinecraftForge.EVENT_BUS.post(new PlayerEvent.StartTracking(tracker, target));
+      }
+    }
+
+    private FakePlayer randomPlayer() {
+      return this.players.get(this.random.nextInt(this.players.size()));
+    }
+
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public void onTickStart(TickEvent.ServerTickEvent event) {
+      if (event.phase == TickEvent.Phase.START) {
+        this.tickStart = System.nanoTime();
+      }
+    }
+
+    /**
+     * Runs after every other listener, so the stat syncs flushed at the end of the tick are part
+     * of the measured time.
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public void onTickEnd(TickEvent.ServerTickEvent event) {
+      if (event.phase == TickEvent.Phase.END && this.measuring && this.tickStart != 0
+          && this.measuredTicks < this.tickNanos.length) {
+        this.tickNanos[this.measuredTicks++] = System.nanoTime() - this.tickStart;
+      }
+    }
+
+    private void finish() {
+      this.measuring = false;
+      MinecraftForge.EVENT_BUS.unregister(this);
+      for (FakePlayer player : this.players) {
+        PlayerTrackerIndex.INSTANCE.remove(player);
+      }
+
+      final int ticks = Math.max(1, this.measuredTicks);
+      final long[] sorted = Arrays.copyOf(this.tickNanos, this.measuredTicks);
+      Arrays.sort(sorted);
+      final double meanMillis = Arrays.stream(sorted).average().orElse(0) / 1_000_000D;
+      final double p99Millis = sorted.length == 0 ? 0
+          : sorted[(int) Math.ceil(sorted.length * 0.99D) - 1] / 1_000_000D;
+
+      long packets = 0;
+      long bytes = 0;
+      final List<PacketStats> stats = NetworkMetrics.INSTANCE.getPacketStats();
+      for (PacketStats packet : stats) {
+        packets += packet.getRecipients();
+        bytes += packet.getBytesSent();
+      }
+      LogUtil.info("Stat load test with {} players over {} ticks: mean tick {} ms, p99 tick {} ms, "
+              + "{} DMZ packets/tick, {} bytes/tick", PLAYERS, this.measuredTicks,
+          "%.3f".formatted(meanMillis), "%.3f".formatted(p99Millis),
+          "%.1f".formatted((double) packets / ticks), "%.1f".formatted((double) bytes / ticks));
+      for (PacketStats packet : stats) {
+        LogUtil.info("  {}: {} packets/tick, {} bytes/tick", packet.getType(),
+            "%.1f".formatted((double) packet.getRecipients() / ticks),
+            "%.1f".formatted((double) packet.getBytesSent() / ticks));
+      }
+    }
+  }
+}
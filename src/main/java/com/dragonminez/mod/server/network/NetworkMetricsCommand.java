@@ -0,0 +1,63 @@
+package com.dragonminez.mod.server.network;
+
+import com.dragonminez.mod.common.network.metrics.NetworkMetrics;
+import com.dragonminez.mod.common.network.metrics.PacketStats;
+import com.mojang.brigadier.CommandDispatcher;
+import java.util.List;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+/**
+ * The {@code /dmz network metrics} command, which prints the {@link NetworkMetrics} counters of
+ * every DMZ message type, and {@code /dmz network metrics reset}, which clears them.
+ */
+public final class NetworkMetricsCommand {
+
+  private NetworkMetricsCommand() {
+  }
+
+  /**
+   * Registers the command.
+   *
+   * @param dispatcher the command dispatcher.
+   */
+  public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+    dispatcher.register(Commands.literal("dmz")
+        .requires(source -> source.hasPermission(2))
+        .then(Commands.literal("network")
+            .then(Commands.literal("metrics")
+                .executes(context -> print(context.getSource()))
+                .then(Commands.literal("reset")
+                    .executes(context -> reset(context.getSource()))))));
+  }
+
+  private static int print(CommandSourceStack source) {
+    final List<PacketStats> stats = NetworkMetrics.INSTANCE.getPacketStats();
+    source.sendSuccess(() -> Component.literal(
+        "DMZ network metrics (%d message types):".formatted(stats.size())), false);
+    for (PacketStats packet : stats) {
+      source.sendSuccess(() -> Component.literal(format(packet)), false);
+    }
+    return stats.size();
+  }
+
+  private static int reset(CommandSourceStack source) {
+    NetworkMetrics.INSTANCE.reset();
+    source.sendSuccess(() -> Component.literal("DMZ network metrics reset."), false);
+    return 1;
+  }
+
+  private static String format(PacketStats packet) {
+    return ("%s: %d sends to %d recipients, %d encodes, %d bytes encoded (~%d sent), "
+        + "avg encode %.1f µs, decode %.1f µs, handle %.1f µs").formatted(packet.getType(),
+        packet.getSends(), packet.getRecipients(), packet.getEncodes(), packet.getBytes(),
+        packet.getBytesSent(), averageMicros(packet.getEncodeNanos(), packet.getEncodes()),
+        averageMicros(packet.getDecodeNanos(), packet.getDecodes()),
+        averageMicros(packet.getHandleNanos(), packet.getHandles()));
+  }
+
+  private static double averageMicros(long nanos, long count) {
+    return count == 0 ? 0 : nanos / 1000.0 / count;
+  }
+}
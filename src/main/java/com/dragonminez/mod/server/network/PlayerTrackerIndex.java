@@ -0,0 +1,113 @@
+package com.dragonminez.mod.server.network;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import net.minecraft.server.level.ServerPlayer;
+
+/**
+ * Exact index of which players are tracking each player, maintained from the
+ * {@link net.minecraftforge.event.entity.player.PlayerEvent.StartTracking} and
+ * {@link net.minecraftforge.event.entity.player.PlayerEvent.StopTracking} events.
+ * <p>
+ * Lets public stat packets be fanned out to the current trackers of a player without querying the
+ * chunk map on every send. Only accessed from the server thread.
+ */
+public final class PlayerTrackerIndex {
+
+  /**
+   * Singleton instance of PlayerTrackerIndex.
+   */
+  public static final PlayerTrackerIndex INSTANCE = new PlayerTrackerIndex();
+
+  /**
+   * Players tracking each player, by the entity ID of the tracked player.
+   */
+  private final Map<Integer, Set<ServerPlayer>> trackers = new HashMap<>();
+
+  /**
+   * Entity IDs of the players tracked by each player, used to clean up when a player leaves.
+   */
+  private final Map<ServerPlayer, Set<Integer>> tracked = new HashMap<>();
+
+  /**
+   * Private constructor to enforce singleton pattern.
+   */
+  private PlayerTrackerIndex() {
+  }
+
+  /**
+   * Records that a player started tracking another player.
+   *
+   * @param tracker  the tracking player.
+   * @param targetId the entity ID of the tracked player.
+   */
+  public void startTracking(ServerPlayer tracker, int targetId) {
+    this.trackers.computeIfAbsent(targetId, id -> new HashSet<>()).add(tracker);
+    this.tracked.computeIfAbsent(tracker, player -> new HashSet<>()).add(targetId);
+  }
+
+  /**
+   * Records that a player stopped tracking another player.
+   *
+   * @param tracker  the tracking player.
+   * @param targetId the entity ID of the tracked player.
+   */
+  public void stopTracking(ServerPlayer tracker, int targetId) {
+    this.removeTracker(targetId, tracker);
+    final Set<Integer> targets = this.tracked.get(tracker);
+    if (targets != null && targets.remove(targetId) && targets.isEmpty()) {
+      this.tracked.remove(tracker);
+    }
+  }
+
+  /**
+   * Removes every entry involving a player, used when the player leaves the server.
+   *
+   * @param player the player.
+   */
+  public void remove(ServerPlayer player) {
+    final Set<Integer> targets = this.tracked.remove(player);
+    if (targets != null) {
+      for (int targetId : targets) {
+        this.removeTracker(targetId, player);
+      }
+    }
+    final Set<ServerPlayer> playerTrackers = this.trackers.remove(player.getId());
+    if (playerTrackers != null) {
+      for (ServerPlayer tracker : playerTrackers) {
+        final Set<Integer> trackerTargets = this.tracked.get(tracker);
+        if (trackerTargets != null && trackerTargets.remove(player.getId())
+            && trackerTargets.isEmpty()) {
+          this.tracked.remove(tracker);
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the players currently tracking a player. The returned set must not be modified.
+   *
+   * @param player the tracked player.
+   * @return the tracking players, never including the player itself.
+   */
+  public Set<ServerPlayer> trackers(ServerPlayer player) {
+    return this.trackers.getOrDefault(player.getId(), Set.of());
+  }
+
+  /**
+   * Clears the index, used when the server stops.
+   */
+  public void clear() {
+    this.trackers.clear();
+    this.tracked.clear();
+  }
+
+  private void removeTracker(int targetId, ServerPlayer tracker) {
+    final Set<ServerPlayer> targetTrackers = this.trackers.get(targetId);
+    if (targetTrackers != null && targetTrackers.remove(tracker) && targetTrackers.isEmpty()) {
+      this.trackers.remove(targetId);
+    }
+  }
+}
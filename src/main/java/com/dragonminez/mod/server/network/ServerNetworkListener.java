@@ -0,0 +1,59 @@
+package com.dragonminez.mod.server.network;
+
+import com.dragonminez.mod.common.Reference;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.RegisterCommandsEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+@Mod.EventBusSubscriber(modid = Reference.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class ServerNetworkListener {
+
+  /**
+   * Sends the session string table before anything else, so it is in place before any packet using
+   * its indexes.
+   */
+  @SubscribeEvent(priority = EventPriority.HIGHEST)
+  public static void onPlayerJoined(PlayerEvent.PlayerLoggedInEvent event) {
+    if (event.getEntity() instanceof ServerPlayer player) {
+      ServerStringTable.INSTANCE.sendTo(player);
+    }
+  }
+
+  @SubscribeEvent
+  public static void onPlayerLeft(PlayerEvent.PlayerLoggedOutEvent event) {
+    if (event.getEntity() instanceof ServerPlayer player) {
+      PlayerTrackerIndex.INSTANCE.remove(player);
+    }
+  }
+
+  @SubscribeEvent
+  public static void onStartTracking(PlayerEvent.StartTracking event) {
+    if (event.getEntity() instanceof ServerPlayer tracker
+        && event.getTarget() instanceof ServerPlayer target) {
+      PlayerTrackerIndex.INSTANCE.startTracking(tracker, target.getId());
+    }
+  }
+
+  @SubscribeEvent
+  public static void onStopTracking(PlayerEvent.StopTracking event) {
+    if (event.getEntity() instanceof ServerPlayer tracker
+        && event.getTarget() instanceof ServerPlayer target) {
+      PlayerTrackerIndex.INSTANCE.stopTracking(tracker, target.getId());
+    }
+  }
+
+  @SubscribeEvent
+  public static void onRegisterCommands(RegisterCommandsEvent event) {
+    NetworkMetricsCommand.register(event.getDispatcher());
+  }
+
+  @SubscribeEvent
+  public static void onServerStopped(ServerStoppedEvent event) {
+    ServerStringTable.INSTANCE.reset();
+    PlayerTrackerIndex.INSTANCE.clear();
+  }
+}
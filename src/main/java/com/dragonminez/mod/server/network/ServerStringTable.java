@@ -0,0 +1,100 @@
+package com.dragonminez.mod.server.network;
+
+import com.dragonminez.mod.common.Reference;
+import com.dragonminez.mod.common.network.NetworkManager;
+import com.dragonminez.mod.common.network.table.s2c.PacketS2CSyncStringTable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.server.level.ServerPlayer;
+
+/**
+ * Append-only table of the strings sent to clients during a server session, such as race and form
+ * identifiers.
+ * <p>
+ * Packets carry the VarInt index of a string instead of the string itself. The whole table is sent
+ * to every player when they log in. Strings are {@link #register registered} before building a
+ * packet that uses them, and the new entries are broadcast with {@link #sendPendingEntries()}
+ * before that packet is sent. Index {@code 0} is always {@link Reference#EMPTY}.
+ */
+public final class ServerStringTable {
+
+  /**
+   * Singleton instance of ServerStringTable.
+   */
+  public static final ServerStringTable INSTANCE = new ServerStringTable();
+
+  private final List<String> entries = new ArrayList<>();
+  private final Map<String, Integer> indexes = new HashMap<>();
+  private int sentSize;
+
+  /**
+   * Private constructor to enforce singleton pattern.
+   */
+  private ServerStringTable() {
+    this.reset();
+  }
+
+  /**
+   * Adds a string to the table if it is not there yet. New entries are not sent until
+   * {@link #sendPendingEntries()} is called.
+   *
+   * @param value the string.
+   */
+  public synchronized void register(String value) {
+    if (!this.indexes.containsKey(value)) {
+      this.indexes.put(value, this.entries.size());
+      this.entries.add(value);
+    }
+  }
+
+  /**
+   * Gets the index of a registered string.
+   *
+   * @param value the string.
+   * @return the index of the string.
+   * @throws IllegalStateException if the string was not registered.
+   */
+  public synchronized int indexOf(String value) {
+    final Integer index = this.indexes.get(value);
+    if (index == null) {
+      throw new IllegalStateException("String not registered in the string table: " + value);
+    }
+    return index;
+  }
+
+  /**
+   * Broadcasts the entries registered since the last call to every player, in a single packet.
+   */
+  public synchronized void sendPendingEntries() {
+    final int size = this.entries.size();
+    if (this.sentSize == size) {
+      return;
+    }
+    NetworkManager.INSTANCE.sendToAll(new PacketS2CSyncStringTable(this.sentSize,
+        this.entries.subList(this.sentSize, size).toArray(String[]::new)));
+    this.sentSize = size;
+  }
+
+  /**
+   * Sends the whole table to a player, replacing any table the client had.
+   *
+   * @param player the player.
+   */
+  public synchronized void sendTo(ServerPlayer player) {
+    NetworkManager.INSTANCE.sendToPlayer(
+        new PacketS2CSyncStringTable(0, this.entries.toArray(String[]::new)), player);
+  }
+
+  /**
+   * Clears the table, used when the server stops so every session starts with a fresh table.
+   */
+  public synchronized void reset() {
+    this.entries.clear();
+    this.indexes.clear();
+    this.entries.add(Reference.EMPTY);
+    this.indexes.put(Reference.EMPTY, 0);
+    this.sentSize = this.entries.size();
+  }
+}
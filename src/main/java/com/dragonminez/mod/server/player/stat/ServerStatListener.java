@@ -1,7 +1,12 @@
 package com.dragonminez.mod.server.player.stat;
 
 import com.dragonminez.mod.common.Reference;
+import com.dragonminez.mod.common.player.stat.StatData;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
@@ -10,21 +15,57 @@ public class ServerStatListener {
 
   @SubscribeEvent
   public static void onPlayerJoined(PlayerEvent.PlayerLoggedInEvent event) {
+    if (event.getEntity() instanceof ServerPlayer player) {
+      ServerStatManager.INSTANCE.requestFullSync(player);
+    }
   }
 
   @SubscribeEvent
   public static void onPlayerTrack(PlayerEvent.StartTracking event) {
+    if (event.getEntity() instanceof ServerPlayer tracker
+        && event.getTarget() instanceof ServerPlayer target) {
+      ServerStatManager.INSTANCE.queueSnapshot(tracker, target);
+    }
   }
 
   @SubscribeEvent
   public static void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+    if (event.getEntity() instanceof ServerPlayer player) {
+      ServerStatManager.INSTANCE.requestFullSync(player);
+    }
   }
 
   @SubscribeEvent
   public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+    if (event.getEntity() instanceof ServerPlayer player) {
+      ServerStatManager.INSTANCE.requestFullSync(player);
+    }
   }
 
   @SubscribeEvent
   public static void onPlayerCloned(PlayerEvent.Clone event) {
+    final Player original = event.getOriginal();
+    original.reviveCaps();
+    final StatData oldData = ServerStatManager.INSTANCE.getStatData(original);
+    final StatData newData = ServerStatManager.INSTANCE.getStatData(event.getEntity());
+    if (oldData != null && newData != null) {
+      newData.copyFrom(oldData);
+      // Restoring the stats is not a change, the respawned player is synced in full afterwards.
+      newData.clearDirty();
+    }
+    original.invalidateCaps();
+  }
+
+  @SubscribeEvent
+  public static void onServerTick(TickEvent.ServerTickEvent event) {
+    if (event.phase == TickEvent.Phase.END) {
+      ServerStatManager.INSTANCE.flushPendingSnapshots();
+      ServerStatManager.INSTANCE.flushPendingSyncs();
+    }
+  }
+
+  @SubscribeEvent
+  public static void onServerStopped(ServerStoppedEvent event) {
+    ServerStatManager.INSTANCE.clearPendingSyncs();
   }
 }
@@ -1,12 +1,22 @@
 package com.dragonminez.mod.server.player.stat;
 
+import com.dragonminez.mod.common.Reference;
 import com.dragonminez.mod.common.network.NetworkManager;
-import com.dragonminez.mod.common.network.player.stat.s2c.PacketS2CSyncPublicStat;
-import com.dragonminez.mod.common.network.player.stat.s2c.PacketS2CSyncStat;
+import com.dragonminez.mod.common.network.player.stat.s2c.PacketS2CSyncPublicStatSnapshot;
+import com.dragonminez.mod.common.network.player.stat.s2c.PacketS2CSyncStatDelta;
 import com.dragonminez.mod.common.player.stat.StatData;
 import com.dragonminez.mod.common.player.stat.StatManager;
 import com.dragonminez.mod.common.player.stat.model.StatType;
 import com.dragonminez.mod.common.util.LogUtil;
+import com.dragonminez.mod.server.network.PlayerTrackerIndex;
+import com.dragonminez.mod.server.network.ServerStringTable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
@@ -16,6 +26,25 @@ public class ServerStatManager extends StatManager {
 
   public static ServerStatManager INSTANCE = new ServerStatManager();
 
+  /**
+   * Maximum amount of players synced per tick. Larger bursts are spread over the next ticks.
+   */
+  private static final int MAX_SYNCS_PER_TICK =
+      Integer.getInteger("dragonminez.stat.maxSyncsPerTick", 256);
+
+  /**
+   * Players with dirty stats waiting to be synced, in the order they were first queued. Being a
+   * set, a player changed several times is still only synced once, and a player left dirty by a
+   * change made outside {@link #modify} is queued again by its next transaction.
+   */
+  private final LinkedHashSet<ServerPlayer> pendingSyncs = new LinkedHashSet<>();
+
+  /**
+   * Players whose public stats must be sent to each tracking player, in the order they started
+   * being tracked.
+   */
+  private final Map<ServerPlayer, List<ServerPlayer>> pendingSnapshots = new LinkedHashMap<>();
+
   private ServerStatManager() {
     super();
   }
@@ -85,25 +114,177 @@ public class ServerStatManager extends StatManager {
 
   private void setStatInternal(Player player, StatType type, Object value,
       Consumer<StatData> dataConsumer, boolean log) {
-    this.modifyStat(player, type, data -> {
-      dataConsumer.accept(data);
-      if (log) {
-        LogUtil.info("{} set to {} for player {}", type.legibleId(), value,
-            player.getName().getString());
+    this.modify(player, dataConsumer, false);
+    if (log) {
+      LogUtil.info(() -> type.legibleId() + " set to " + value + " for player "
+          + player.getName().getString());
+    }
+  }
+
+  /**
+   * Applies any number of stat changes to a player as a single transaction. The capability is
+   * resolved once, and all the changes are sent together in one sync at the end of the tick.
+   * <p>
+   * This is the preferred way to change several stats at once, such as when buying stat points or
+   * transforming, instead of calling the individual setters.
+   *
+   * @param player  The player whose stats change.
+   * @param mutator The changes to apply to the stat data.
+   * @param log     Whether to log the stats that changed.
+   * @return The stats changed by the mutator, one {@link StatType#bit()} per stat.
+   */
+  public int modify(Player player, Consumer<StatData> mutator, boolean log) {
+    final StatData data = this.getStatData(player);
+    if (data == null) {
+      return 0;
+    }
+
+    // Track the changes of this transaction apart from the ones already waiting to be synced.
+    final int pendingMask = data.getDirtyMask();
+    data.clearDirty();
+    mutator.accept(data);
+    final int changedMask = data.getDirtyMask();
+    data.markDirty(pendingMask);
+
+    if (changedMask == 0) {
+      return 0;
+    }
+    if (player instanceof ServerPlayer serverPlayer) {
+      this.pendingSyncs.add(serverPlayer);
+    }
+    if (log) {
+      LogUtil.info(() -> {
+        final List<String> changed = new ArrayList<>();
+        for (StatType type : Reference.Stat.STATS) {
+          if ((changedMask & type.bit()) != 0) {
+            changed.add(type.legibleId());
+          }
+        }
+        return String.join(", ", changed) + " changed for player " + player.getName().getString();
+      });
+    }
+    return changedMask;
+  }
+
+  /**
+   * Marks every stat of a player as dirty so they are all sent at the end of the tick, used when
+   * the client lost its copy of the stats, such as after logging in or respawning.
+   *
+   * @param player The player to sync.
+   */
+  public void requestFullSync(ServerPlayer player) {
+    this.modify(player, StatData::markAllDirty, false);
+  }
+
+  /**
+   * Syncs the players whose stats changed during the tick. At most {@link #MAX_SYNCS_PER_TICK}
+   * players are synced per call, the rest stay queued for the next tick.
+   */
+  public void flushPendingSyncs() {
+    int budget = MAX_SYNCS_PER_TICK;
+    final Iterator<ServerPlayer> iterator = this.pendingSyncs.iterator();
+    while (budget > 0 && iterator.hasNext()) {
+      final ServerPlayer player = iterator.next();
+      iterator.remove();
+      if (player.hasDisconnected()) {
+        continue;
+      }
+      final StatData data = this.getStatData(player);
+      if (data != null) {
+        this.sendUpdate(player, data);
       }
-    });
+      budget--;
+    }
+  }
+
+  /**
+   * Queues the public stats of a player to be sent to a player that started tracking it. All the
+   * players a tracker starts tracking during a tick are sent together in one snapshot.
+   *
+   * @param tracker The tracking player.
+   * @param target  The tracked player.
+   */
+  public void queueSnapshot(ServerPlayer tracker, ServerPlayer target) {
+    this.pendingSnapshots.computeIfAbsent(tracker, player -> new ArrayList<>()).add(target);
+  }
+
+  /**
+   * Sends one public stat snapshot to every tracker with queued players, skipping the players it
+   * stopped tracking in the meantime.
+   */
+  public void flushPendingSnapshots() {
+    if (this.pendingSnapshots.isEmpty()) {
+      return;
+    }
+    for (Map.Entry<ServerPlayer, List<ServerPlayer>> entry : this.pendingSnapshots.entrySet()) {
+      final ServerPlayer tracker = entry.getKey();
+      if (tracker.hasDisconnected()) {
+        continue;
+      }
+      final List<ServerPlayer> targets = entry.getValue();
+      final PacketS2CSyncPublicStatSnapshot snapshot =
+          new PacketS2CSyncPublicStatSnapshot(targets.size());
+      for (ServerPlayer target : targets) {
+        final StatData data = this.getStatData(target);
+        if (data != null && PlayerTrackerIndex.INSTANCE.trackers(target).contains(tracker)) {
+          this.registerStrings(data, Reference.Stat.PUBLIC_MASK);
+          snapshot.add(target.getId(), data, ServerStringTable.INSTANCE::indexOf);
+        }
+      }
+      if (snapshot.size() > 0) {
+        ServerStringTable.INSTANCE.sendPendingEntries();
+        NetworkManager.INSTANCE.sendToPlayer(snapshot, tracker);
+      }
+    }
+    this.pendingSnapshots.clear();
+  }
+
+  /**
+   * Discards every queued sync and snapshot, used when the server stops.
+   */
+  public void clearPendingSyncs() {
+    this.pendingSyncs.clear();
+    this.pendingSnapshots.clear();
   }
 
-  private void modifyStat(Player player, StatType type, Consumer<StatData> consumer) {
-    this.retrieveStatData(player, consumer);
-    consumer.andThen(data -> this.sendUpdate(player, data, type.isPublic()));
+  /**
+   * Sends the stats changed since the last sync: all of them to the owning client, and only the
+   * public ones to the clients tracking the player.
+   *
+   * @param serverPlayer The player whose stats changed.
+   * @param data         The stat data of the player.
+   */
+  private void sendUpdate(ServerPlayer serverPlayer, StatData data) {
+    final int dirtyMask = data.getDirtyMask();
+    if (dirtyMask == 0) {
+      return;
+    }
+    this.registerStrings(data, dirtyMask);
+    ServerStringTable.INSTANCE.sendPendingEntries();
+
+    final int publicMask = dirtyMask & Reference.Stat.PUBLIC_MASK;
+    final Set<ServerPlayer> trackers = PlayerTrackerIndex.INSTANCE.trackers(serverPlayer);
+    if (publicMask != 0 && !trackers.isEmpty()) {
+      NetworkManager.INSTANCE.sendToPlayers(trackers, new PacketS2CSyncStatDelta(data,
+          serverPlayer.getId(), publicMask, ServerStringTable.INSTANCE::indexOf));
+    }
+    NetworkManager.INSTANCE.sendToPlayer(new PacketS2CSyncStatDelta(data, serverPlayer.getId(),
+        dirtyMask, ServerStringTable.INSTANCE::indexOf), serverPlayer);
+    data.clearDirty();
   }
 
-  private void sendUpdate(Player player, StatData data, boolean isPublic) {
-    if (isPublic) {
-      NetworkManager.INSTANCE.sendToTracking((ServerPlayer) player,
-          new PacketS2CSyncPublicStat(data, player.getId()));
+  /**
+   * Registers the values of the given string stats in the {@link ServerStringTable}, so packets
+   * carrying them can use their index.
+   *
+   * @param data The stat data.
+   * @param mask The stats about to be sent, one {@link StatType#bit()} per stat.
+   */
+  private void registerStrings(StatData data, int mask) {
+    for (StatType type : Reference.Stat.STATS) {
+      if ((mask & type.bit()) != 0 && type.kind() == StatType.Kind.STRING) {
+        ServerStringTable.INSTANCE.register(data.getString(type));
+      }
     }
-    NetworkManager.INSTANCE.sendToPlayer(new PacketS2CSyncStat(data), (ServerPlayer) player);
   }
 }